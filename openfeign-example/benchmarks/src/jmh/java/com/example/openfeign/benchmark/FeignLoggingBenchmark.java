@@ -0,0 +1,159 @@
+package com.example.openfeign.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.RestUserClient;
+import com.example.openfeign.order.client.logging.AsyncLogWriter;
+import com.example.openfeign.order.client.logging.SampledFeignLogger;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.Feign;
+import feign.Logger;
+import feign.Response;
+import feign.optionals.OptionalDecoder;
+import feign.slf4j.Slf4jLogger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign 로깅 방식별 처리량 비교 (NONE / FULL / SAMPLED)
+ *
+ * 네트워크 비용을 빼고 로깅 비용만 보기 위해 Client는 미리 만든 JSON 응답을 바로 돌려줍니다.
+ * FULL(Slf4jLogger)과 SAMPLED(SampledFeignLogger) 모두 DEBUG 레벨로 임시 파일에 기록합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class FeignLoggingBenchmark {
+
+    @Param({"NONE", "FULL", "SAMPLED"})
+    public String logging;
+
+    @Param({"100"})
+    public int userCount;
+
+    private RestUserClient userClient;
+    private AsyncLogWriter writer;
+    private FileAppender<ILoggingEvent> appender;
+
+    @Setup
+    public void setUp() throws Exception {
+        File logFile = File.createTempFile("feign-logging-benchmark", ".log");
+        logFile.deleteOnExit();
+        configureLogback(logFile);
+
+        Map<Long, User> users = new LinkedHashMap<>();
+        for (long id = 1; id <= userCount; id++) {
+            users.put(id, new User(id, "사용자" + id, "user" + id + "@example.com", "010-0000-" + id));
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        byte[] allUsers = mapper.writeValueAsBytes(users);
+        byte[] oneUser = mapper.writeValueAsBytes(users.get(1L));
+        Map<String, Collection<String>> headers = Map.of("Content-Type", List.of("application/json"));
+        Client client = (request, options) -> Response.builder()
+            .status(200)
+            .reason("OK")
+            .request(request)
+            .headers(headers)
+            .body(request.url().endsWith("/api/users") ? allUsers : oneUser)
+            .build();
+
+        HttpMessageConverters messageConverters = new HttpMessageConverters(new MappingJackson2HttpMessageConverter());
+        ObjectFactory<HttpMessageConverters> converters = () -> messageConverters;
+        Feign.Builder builder = Feign.builder()
+            .client(client)
+            .contract(new SpringMvcContract())
+            .encoder(new SpringEncoder(converters))
+            .decoder(new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(converters))));
+
+        switch (logging) {
+            case "NONE" -> builder.logLevel(Logger.Level.NONE);
+            case "FULL" -> builder.logger(new Slf4jLogger(RestUserClient.class)).logLevel(Logger.Level.FULL);
+            case "SAMPLED" -> {
+                writer = new AsyncLogWriter(10_000, new SimpleMeterRegistry());
+                builder.logger(new SampledFeignLogger(RestUserClient.class, writer, new UserClientProperties.Logging()))
+                    .logLevel(Logger.Level.FULL);
+            }
+            default -> throw new IllegalArgumentException("Unknown logging mode: " + logging);
+        }
+        userClient = builder.target(RestUserClient.class, "http://localhost:8080");
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.close();
+        }
+        appender.stop();
+    }
+
+    @Benchmark
+    public User getUserById() {
+        return userClient.getUserById(1L);
+    }
+
+    @Benchmark
+    public Map<Long, User> getAllUsers() {
+        return userClient.getAllUsers();
+    }
+
+    /**
+     * 루트 로거는 WARN, RestUserClient 로거만 DEBUG로 파일에 기록
+     */
+    private void configureLogback(File logFile) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(logFile.getAbsolutePath());
+        appender.setEncoder(encoder);
+        appender.start();
+
+        ch.qos.logback.classic.Logger logger = context.getLogger(RestUserClient.class);
+        logger.setLevel(Level.DEBUG);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.benchmark.support.InProcessUserService;
+import com.example.openfeign.benchmark.support.UserClients;
+import com.example.openfeign.order.client.UserClient;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.example.openfeign.order.domain.Order;
+import com.example.openfeign.order.repository.OrderRepository;
+import com.example.openfeign.order.service.OrderService;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 조회 모델(OrderReadModel) 사용 여부에 따른 주문 조회 비용
+ * 같은 JVM에서 띄운 User Service와 RestUserClient(OpenFeign)를 사용하며, 데코레이터(캐시 등)는 적용하지 않습니다.
+ *
+ * - snapshot: 주문 생성 시 저장한 사용자 스냅샷으로 채움 (User Service 호출 없음)
+ * - live: ?live=true와 같이 매번 User Service에서 조회 (OrderUserEnricher 기본 모드)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderReadModelBenchmark {
+
+    @Param({"snapshot", "live"})
+    public String read;
+
+    @Param({"10", "100", "1000"})
+    public int orderCount;
+
+    private InProcessUserService userService;
+    private CloseableHttpClient httpClient;
+    private OrderService orderService;
+    private boolean live;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userService = InProcessUserService.start();
+        httpClient = HttpClients.custom()
+            .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(200)
+                .setMaxConnPerRoute(50)
+                .build())
+            .disableAutomaticRetries()
+            .build();
+
+        UserClientProperties properties = new UserClientProperties();
+        UserClient userClient = UserClients.feign(httpClient, userService.getUrl());
+        orderService = new OrderService(userClient, null, Orders.readModel(userClient, properties, true),
+            new OrderRepository(), properties);
+        orderService.init();
+        Orders.seed(orderService, orderCount);
+        live = "live".equals(read);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        userService.close();
+    }
+
+    @Benchmark
+    public Order getOrderById() {
+        return orderService.getOrderById(1L, live);
+    }
+
+    @Benchmark
+    public List<Order> getAllOrders() {
+        return orderService.getAllOrders(live);
+    }
+}
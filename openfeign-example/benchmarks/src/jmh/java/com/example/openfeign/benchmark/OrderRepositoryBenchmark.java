@@ -0,0 +1,61 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.order.domain.Order;
+import com.example.openfeign.order.repository.OrderRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderRepository 조회 비용
+ * 사용자당 주문 수(10건)는 고정하고 전체 주문 수만 늘립니다.
+ * findByUserId는 userId 인덱스를 사용하므로 전체 주문 수가 늘어도 비용이 거의 변하지 않아야 합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class OrderRepositoryBenchmark {
+
+    private static final int ORDERS_PER_USER = 10;
+
+    @Param({"10000", "100000", "1000000"})
+    public int orderCount;
+
+    private OrderRepository orderRepository;
+    private int userCount;
+
+    @Setup
+    public void setUp() {
+        orderRepository = new OrderRepository();
+        userCount = orderCount / ORDERS_PER_USER;
+        for (long id = 1; id <= orderCount; id++) {
+            orderRepository.save(new Order(id, id % userCount + 1, "상품-" + id, 1, 10000.0, null));
+        }
+    }
+
+    @Benchmark
+    public List<Order> findByUserId() {
+        return orderRepository.findByUserId(ThreadLocalRandom.current().nextLong(1, userCount + 1));
+    }
+
+    @Benchmark
+    public CursorPage<Order> findPage() {
+        return orderRepository.findPage(ThreadLocalRandom.current().nextLong(0, orderCount), 100);
+    }
+}
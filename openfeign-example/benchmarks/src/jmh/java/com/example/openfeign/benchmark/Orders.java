@@ -0,0 +1,45 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.order.client.UserClient;
+import com.example.openfeign.order.config.OrderReadModelProperties;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.example.openfeign.order.domain.Order;
+import com.example.openfeign.order.repository.UserSnapshotRepository;
+import com.example.openfeign.order.service.OrderReadModel;
+import com.example.openfeign.order.service.OrderUserEnricher;
+import com.example.openfeign.order.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 벤치마크용 주문 데이터
+ */
+final class Orders {
+
+    /**
+     * User Service 기본 데이터의 사용자 수 (ID 1~3)
+     */
+    private static final int USER_COUNT = 3;
+
+    private Orders() {
+    }
+
+    /**
+     * 초기 주문(ID 1~3)에 더해 주문 수가 orderCount가 되도록 주문을 추가
+     */
+    static void seed(OrderService orderService, int orderCount) {
+        for (long id = USER_COUNT + 1; id <= orderCount; id++) {
+            long userId = id % USER_COUNT + 1;
+            orderService.createOrder(new Order(id, userId, "상품-" + id, 1, 10000.0, null));
+        }
+    }
+
+    /**
+     * 주문 조회 모델 (enabled=false면 조회마다 userClient로 사용자 정보를 가져옴)
+     */
+    static OrderReadModel readModel(UserClient userClient, UserClientProperties properties, boolean enabled) {
+        OrderReadModelProperties readModelProperties = new OrderReadModelProperties();
+        readModelProperties.setEnabled(enabled);
+        return new OrderReadModel(userClient, new OrderUserEnricher(userClient, properties),
+            new UserSnapshotRepository(), readModelProperties, new SimpleMeterRegistry());
+    }
+}
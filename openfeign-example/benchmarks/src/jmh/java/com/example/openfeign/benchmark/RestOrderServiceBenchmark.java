@@ -0,0 +1,135 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.benchmark.support.InProcessUserService;
+import com.example.openfeign.order.client.RestUserClient;
+import com.example.openfeign.order.client.resilience.BudgetedRetryer;
+import com.example.openfeign.order.config.FeignConfig;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.example.openfeign.order.domain.Order;
+import com.example.openfeign.order.repository.OrderRepository;
+import com.example.openfeign.order.service.OrderService;
+import feign.Feign;
+import feign.Logger;
+import feign.hc5.ApacheHttp5Client;
+import feign.optionals.OptionalDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RestUserClient(OpenFeign)를 사용하는 OrderService 조회 비용
+ * 같은 JVM에서 띄운 User Service로 실제 HTTP 호출을 보냅니다.
+ *
+ * Feign 클라이언트는 FeignConfig의 Request.Options, 기본 설정의 BudgetedRetryer와 풀링된 Apache HttpClient 5로 직접 구성하며,
+ * 캐시 등 UserClientConfig의 데코레이터는 적용하지 않습니다 (매 조회가 HTTP 호출).
+ * 로거는 로그 문자열을 만든 뒤 버리므로 로깅 레벨별 포맷/바디 버퍼링 비용만 측정됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RestOrderServiceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int orderCount;
+
+    @Param({"NONE", "BASIC", "FULL"})
+    public Logger.Level loggerLevel;
+
+    private InProcessUserService userService;
+    private CloseableHttpClient httpClient;
+    private OrderService orderService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userService = InProcessUserService.start();
+        httpClient = HttpClients.custom()
+            .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(200)
+                .setMaxConnPerRoute(50)
+                .build())
+            .disableAutomaticRetries()
+            .build();
+
+        UserClientProperties properties = new UserClientProperties();
+        RestUserClient userClient = restUserClient(userService.getUrl(), properties);
+        // 동기 조회만 측정하므로 AsyncUserClient는 사용하지 않음
+        orderService = new OrderService(userClient, null, Orders.readModel(userClient, properties, false),
+            new OrderRepository(), properties);
+        orderService.init();
+        Orders.seed(orderService, orderCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        userService.close();
+    }
+
+    @Benchmark
+    public Order getOrderById() {
+        return orderService.getOrderById(1L, true);
+    }
+
+    @Benchmark
+    public List<Order> getAllOrders() {
+        return orderService.getAllOrders(true);
+    }
+
+    private RestUserClient restUserClient(String url, UserClientProperties properties) {
+        FeignConfig feignConfig = new FeignConfig();
+        HttpMessageConverters messageConverters = new HttpMessageConverters(new MappingJackson2HttpMessageConverter());
+        ObjectFactory<HttpMessageConverters> converters = () -> messageConverters;
+
+        return Feign.builder()
+            .client(new ApacheHttp5Client(httpClient))
+            .contract(new SpringMvcContract())
+            .encoder(new SpringEncoder(converters))
+            .decoder(new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(converters))))
+            .options(feignConfig.requestOptions())
+            .retryer(new BudgetedRetryer(properties.getRetry(), new SimpleMeterRegistry()))
+            .logger(new DiscardingLogger())
+            .logLevel(loggerLevel)
+            .target(RestUserClient.class, url);
+    }
+
+    /**
+     * 로그 메시지를 만들기만 하고 출력하지 않는 Feign 로거
+     */
+    static class DiscardingLogger extends Logger {
+
+        private int length;
+
+        @Override
+        protected void log(String configKey, String format, Object... args) {
+            length += String.format(methodTag(configKey) + format, args).length();
+        }
+    }
+}
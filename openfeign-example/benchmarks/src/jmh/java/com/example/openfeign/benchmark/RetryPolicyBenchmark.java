@@ -0,0 +1,160 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.benchmark.support.InProcessUserService;
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.RestUserClient;
+import com.example.openfeign.order.client.resilience.BudgetedRetryer;
+import com.example.openfeign.order.client.resilience.RetryableStatusErrorDecoder;
+import com.example.openfeign.order.config.UserClientProperties;
+import feign.Client;
+import feign.Feign;
+import feign.FeignException;
+import feign.Retryer;
+import feign.optionals.OptionalDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 불안정한 User Service에 대한 재시도 정책 비교 (장애 주입 테스트)
+ *
+ * 같은 JVM에서 띄운 User Service가 errorRate 비율로 503을 돌려줍니다 (ChaosFilter).
+ * - default: 기존 Retryer.Default (모든 메서드 재시도, 고정 지수 간격, 예산 없음)
+ * - budgeted: BudgetedRetryer (멱등 메서드만, decorrelated jitter, 재시도 예산 10%)
+ * 두 정책 모두 RetryableStatusErrorDecoder로 503을 재시도 대상으로 보며, 대기 시간은 5~50ms로 줄여 측정합니다.
+ *
+ * 보조 카운터:
+ * - succeeded / failed: 호출 결과
+ * - attempts: 실제로 보낸 HTTP 요청 수 (attempts / (succeeded + failed)가 부하 증폭 배수)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RetryPolicyBenchmark {
+
+    @Param({"default", "budgeted"})
+    public String policy;
+
+    @Param({"0.05", "0.3"})
+    public double errorRate;
+
+    private InProcessUserService userService;
+    private RestUserClient userClient;
+    private final AtomicLong attempts = new AtomicLong();
+    private final User newUser = new User(100L, "재시도", "retry@example.com", "010-0000-0000");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userService = InProcessUserService.start(
+            "user.chaos.enabled=true",
+            "user.chaos.error-probability=" + errorRate,
+            "user.chaos.error-status=503");
+
+        HttpMessageConverters messageConverters = new HttpMessageConverters(new MappingJackson2HttpMessageConverter());
+        ObjectFactory<HttpMessageConverters> converters = () -> messageConverters;
+        Client delegate = new Client.Default(null, null);
+        Client counting = (request, options) -> {
+            attempts.incrementAndGet();
+            return delegate.execute(request, options);
+        };
+
+        userClient = Feign.builder()
+            .client(counting)
+            .contract(new SpringMvcContract())
+            .encoder(new SpringEncoder(converters))
+            .decoder(new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(converters))))
+            .errorDecoder(new RetryableStatusErrorDecoder(Set.of(429, 502, 503, 504)))
+            .retryer(retryer())
+            .target(RestUserClient.class, userService.getUrl());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        userService.close();
+    }
+
+    @Benchmark
+    public User getUserById(Outcome outcome) {
+        long before = attempts.get();
+        try {
+            User user = userClient.getUserById(1L);
+            outcome.succeeded++;
+            return user;
+        } catch (FeignException e) {
+            outcome.failed++;
+            return null;
+        } finally {
+            outcome.attempts += attempts.get() - before;
+        }
+    }
+
+    @Benchmark
+    public User createUser(Outcome outcome) {
+        long before = attempts.get();
+        try {
+            User user = userClient.createUser(newUser);
+            outcome.succeeded++;
+            return user;
+        } catch (FeignException e) {
+            outcome.failed++;
+            return null;
+        } finally {
+            outcome.attempts += attempts.get() - before;
+        }
+    }
+
+    private Retryer retryer() {
+        if ("default".equals(policy)) {
+            return new Retryer.Default(5, 50, 3);
+        }
+        UserClientProperties.Retry properties = new UserClientProperties.Retry();
+        properties.setBaseDelay(Duration.ofMillis(5));
+        properties.setMaxDelay(Duration.ofMillis(50));
+        return new BudgetedRetryer(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * 호출 결과 카운터 (스레드별, 반복 구간마다 합산)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+        public long succeeded;
+        public long failed;
+        public long attempts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            succeeded = 0;
+            failed = 0;
+            attempts = 0;
+        }
+    }
+}
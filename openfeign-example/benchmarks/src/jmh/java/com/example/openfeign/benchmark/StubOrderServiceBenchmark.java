@@ -0,0 +1,75 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.order.client.StubAsyncUserClient;
+import com.example.openfeign.order.client.StubUserClient;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.example.openfeign.order.domain.Order;
+import com.example.openfeign.order.repository.OrderRepository;
+import com.example.openfeign.order.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StubUserClient를 사용하는 OrderService 조회 비용 (네트워크 없음)
+ * 주문 조회 로직과 사용자 정보 결합 비용의 기준선으로 사용합니다.
+ *
+ * StubUserClient는 호출마다 System.out에 로그를 남기므로, 측정 중에는 System.out을 버립니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StubOrderServiceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int orderCount;
+
+    private OrderService orderService;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        UserClientProperties properties = new UserClientProperties();
+        StubUserClient userClient = new StubUserClient();
+        orderService = new OrderService(userClient, new StubAsyncUserClient(userClient),
+            Orders.readModel(userClient, properties, false), new OrderRepository(), properties);
+        orderService.init();
+        Orders.seed(orderService, orderCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public Order getOrderById() {
+        return orderService.getOrderById(1L, true);
+    }
+
+    @Benchmark
+    public List<Order> getAllOrders() {
+        return orderService.getAllOrders(true);
+    }
+}
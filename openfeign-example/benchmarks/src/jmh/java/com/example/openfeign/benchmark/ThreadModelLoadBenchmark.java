@@ -0,0 +1,157 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.benchmark.support.InProcessOrderService;
+import com.example.openfeign.benchmark.support.InProcessUserService;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드와 가상 스레드의 Order Service 요청 처리 비교 (부하 테스트)
+ *
+ * 같은 JVM에서 User Service(모든 요청에 100ms 지연)와 Order Service(rest)를 띄우고
+ * 주문 조회(GET /api/orders/{id}) concurrency건을 한꺼번에 보낸 뒤 모두 끝날 때까지 기다립니다.
+ * - platform: Tomcat 작업 스레드 풀(기본 server.tomcat.threads.max=200)에서 처리
+ * - virtual: spring.threads.virtual.enabled=true (요청마다 가상 스레드, Feign 호출도 그 스레드에서 실행)
+ *
+ * 스레드 모델만 비교하도록 모든 조회가 User Service까지 가게 하고(캐시, single-flight 끔),
+ * 동시 호출 제한(벌크헤드, 동시성 제한기)을 끄고 커넥션 풀을 concurrency만큼 늘립니다.
+ * -Djdk.tracePinnedThreads=short로 실행하므로 가상 스레드가 캐리어 스레드를 점유하면 스택이 출력됩니다.
+ *
+ * 결과:
+ * - burst: concurrency건을 모두 처리하는 데 걸린 시간
+ * - failed: 실패하거나 200이 아닌 응답 수
+ * 측정이 끝나면 Order Service에서 동시에 처리 중이던 최대 주문 조회 수(http.server.requests.active)를 함께 출력합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+@State(Scope.Benchmark)
+public class ThreadModelLoadBenchmark {
+
+    private static final int ORDER_COUNT = 3;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"200", "1000"})
+    public int concurrency;
+
+    private InProcessUserService userService;
+    private InProcessOrderService orderService;
+    private MeterRegistry orderMeterRegistry;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private HttpRequest[] requests;
+    private volatile int maxInFlight;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userService = InProcessUserService.start(
+            "spring.threads.virtual.enabled=true",
+            "user.chaos.enabled=true",
+            "user.chaos.latency-probability=1.0",
+            "user.chaos.latency=100ms");
+        orderService = InProcessOrderService.start(userService.getUrl(),
+            "spring.threads.virtual.enabled=" + "virtual".equals(threads),
+            "user.client.cache.enabled=false",
+            "user.client.single-flight.enabled=false",
+            "user.client.resilience.enabled=false",
+            "order.read-model.enabled=false",
+            "user.client.transport.max-connections=" + concurrency,
+            "user.client.transport.max-connections-per-route=" + concurrency);
+        orderMeterRegistry = orderService.getBean(MeterRegistry.class);
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+            .executor(clientExecutor)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        requests = new HttpRequest[ORDER_COUNT];
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            requests[i] = HttpRequest.newBuilder(URI.create(orderService.getUrl() + "/api/orders/" + (i + 1))).build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%s threads, concurrency %d: max in-flight orders %d%n", threads, concurrency, maxInFlight);
+        httpClient.close();
+        clientExecutor.close();
+        orderService.close();
+        userService.close();
+    }
+
+    @Benchmark
+    public int burst(Failures failures) throws InterruptedException {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(httpClient.sendAsync(requests[i % ORDER_COUNT], HttpResponse.BodyHandlers.discarding()));
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new));
+        while (!all.isDone()) {
+            maxInFlight = Math.max(maxInFlight, inFlight());
+            Thread.sleep(1);
+        }
+
+        int succeeded = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (!response.isCompletedExceptionally() && response.join().statusCode() == 200) {
+                succeeded++;
+            } else {
+                failures.failed++;
+            }
+        }
+        return succeeded;
+    }
+
+    private int inFlight() {
+        int active = 0;
+        for (LongTaskTimer timer : orderMeterRegistry.find("http.server.requests.active").longTaskTimers()) {
+            active += timer.activeTasks();
+        }
+        return active;
+    }
+
+    /**
+     * 실패 응답 카운터 (반복 구간마다 합산)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Failures {
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            failed = 0;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.benchmark.support.InProcessUserService;
+import com.example.openfeign.benchmark.support.UserClients;
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.UserClient;
+import com.sun.management.ThreadMXBean;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * UserClient 구현별 호출 비용 (RestUserClient(OpenFeign) vs RestClientUserClient(Spring RestClient))
+ * 같은 JVM에서 띄운 User Service로 실제 HTTP 호출을 보내며, 두 구현 모두 같은 풀링된 Apache HttpClient 5를 사용합니다.
+ * 로깅, 재시도, 메트릭, 데코레이터는 적용하지 않으므로 차이는 요청 생성과 인코딩/디코딩 경로의 비용입니다.
+ *
+ * - getUserById: 작은 응답 (경로 변수 하나)
+ * - getUsersPage: 사용자 100명 응답 (쿼리 파라미터, 제네릭 타입 디코딩)
+ * - getUsersByIds: 사용자 ID 20개를 JSON 바디로 보내는 POST
+ *
+ * 측정이 끝나면 벤치마크 스레드(클라이언트 쪽)가 호출당 할당한 바이트를 출력합니다.
+ * gc 프로파일러(gc.alloc.rate.norm)는 같은 JVM의 User Service 할당까지 포함하므로 두 구현의 차이만 의미가 있습니다:
+ * ./gradlew :benchmarks:jmh -PjmhIncludes=UserClientImplementation -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserClientImplementationBenchmark {
+
+    private static final int USER_COUNT = 1000;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"feign", "restclient"})
+    public String implementation;
+
+    private InProcessUserService userService;
+    private CloseableHttpClient httpClient;
+    private UserClient userClient;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userService = InProcessUserService.start();
+        httpClient = HttpClients.custom()
+            .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(200)
+                .setMaxConnPerRoute(50)
+                .build())
+            .disableAutomaticRetries()
+            .build();
+        userClient = UserClients.create(implementation, httpClient, userService.getUrl());
+
+        for (long id = userClient.getAllUsers().size() + 1; id <= USER_COUNT; id++) {
+            userClient.createUser(new User(id, "사용자" + id, "user" + id + "@example.com", "010-0000-0000"));
+        }
+        ids = LongStream.rangeClosed(1, 20).boxed().toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        userService.close();
+    }
+
+    @Benchmark
+    public User getUserById(ClientAllocation allocation) {
+        return userClient.getUserById(1L);
+    }
+
+    @Benchmark
+    public CursorPage<User> getUsersPage(ClientAllocation allocation) {
+        return userClient.getUsersPage(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<User> getUsersByIds(ClientAllocation allocation) {
+        return userClient.getUsersByIds(ids);
+    }
+
+    /**
+     * 호출 한 번 동안 벤치마크 스레드가 할당한 바이트 (워밍업 제외)
+     * 호출이 밀리초 단위이므로 호출마다 setup/teardown을 실행하는 비용은 무시할 수 있습니다.
+     */
+    @State(Scope.Thread)
+    public static class ClientAllocation {
+
+        private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        private String benchmark;
+        private boolean measuring;
+        private long start;
+        private long bytes;
+        private long calls;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkParams params) {
+            benchmark = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1)
+                + " (" + params.getParam("implementation") + ")";
+        }
+
+        @Setup(Level.Iteration)
+        public void startIteration(IterationParams params) {
+            measuring = params.getType() == IterationType.MEASUREMENT;
+        }
+
+        @Setup(Level.Invocation)
+        public void beforeCall() {
+            start = threads.getCurrentThreadAllocatedBytes();
+        }
+
+        @TearDown(Level.Invocation)
+        public void afterCall() {
+            if (measuring) {
+                bytes += threads.getCurrentThreadAllocatedBytes() - start;
+                calls++;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void print() {
+            System.out.printf("%n%s: client thread allocated %d bytes/call%n", benchmark, calls == 0 ? 0 : bytes / calls);
+        }
+    }
+}
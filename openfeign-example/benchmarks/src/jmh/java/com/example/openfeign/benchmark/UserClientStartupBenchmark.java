@@ -0,0 +1,72 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.benchmark.support.InProcessOrderService;
+import com.example.openfeign.benchmark.support.InProcessUserService;
+import com.example.openfeign.benchmark.support.UserClients;
+import com.example.openfeign.common.User;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserClient 구현별 시작 비용 (새 JVM에서 한 번만 실행, fork마다 측정)
+ *
+ * - firstCall: 클라이언트를 만들고 첫 getUserById 응답을 받을 때까지 (Feign 계약 파싱/프록시 생성 또는 RestClient 구성, 클래스 로딩 포함)
+ * - orderServiceStartup: Order Service 컨텍스트를 rest / restclient 프로필로 띄우는 시간 (Feign 클라이언트 컨텍스트 생성 포함)
+ *
+ * User Service는 측정 전에 같은 JVM에서 띄우므로 Spring Web, Jackson 등 공통 클래스는 이미 로딩된 상태입니다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+@State(Scope.Benchmark)
+public class UserClientStartupBenchmark {
+
+    @Param({"feign", "restclient"})
+    public String implementation;
+
+    private InProcessUserService userService;
+    private CloseableHttpClient httpClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userService = InProcessUserService.start();
+        httpClient = HttpClients.createDefault();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        userService.close();
+    }
+
+    @Benchmark
+    public User firstCall() {
+        return UserClients.create(implementation, httpClient, userService.getUrl()).getUserById(1L);
+    }
+
+    @Benchmark
+    public String orderServiceStartup() {
+        String profile = "feign".equals(implementation) ? "rest" : "restclient";
+        try (InProcessOrderService orderService = InProcessOrderService.startWithProfile(profile, userService.getUrl())) {
+            return orderService.getUrl();
+        }
+    }
+}
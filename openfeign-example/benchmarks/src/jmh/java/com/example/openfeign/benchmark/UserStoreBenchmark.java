@@ -0,0 +1,109 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.User;
+import com.example.openfeign.user.store.CompactUserStore;
+import com.example.openfeign.user.store.SkipListUserStore;
+import com.example.openfeign.user.store.UserStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserStore 구현별 조회/수정 처리량 (사용자 100만 명)
+ *
+ * - get: 임의 ID 단건 조회
+ * - page: 임의 위치에서 100명 페이지 조회
+ * - readHeavy: 조회 3 스레드 + 수정 1 스레드를 동시에 실행 (읽기 위주 혼합 부하)
+ *
+ * 준비 단계에서 저장소가 차지하는 힙 크기(사용자당 바이트)를 함께 출력합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class UserStoreBenchmark {
+
+    @Param({"compact", "skip-list"})
+    public String store;
+
+    @Param({"1000000"})
+    public int userCount;
+
+    private UserStore userStore;
+
+    @Setup
+    public void setUp() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = usedHeap(memory);
+
+        userStore = switch (store) {
+            case "compact" -> new CompactUserStore();
+            case "skip-list" -> new SkipListUserStore();
+            default -> throw new IllegalArgumentException("Unknown store: " + store);
+        };
+        for (long id = 1; id <= userCount; id++) {
+            userStore.put(user(id));
+        }
+
+        long retained = usedHeap(memory) - before;
+        System.out.printf("%n%s: %d users, %,d bytes (%d bytes/user)%n",
+            store, userStore.size(), retained, retained / userCount);
+    }
+
+    @Benchmark
+    public User get() {
+        return userStore.get(randomId());
+    }
+
+    @Benchmark
+    public CursorPage<User> page() {
+        return userStore.page(randomId(), 100);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public User readHeavyGet() {
+        return userStore.get(randomId());
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public boolean readHeavyUpdate() {
+        long id = randomId();
+        return userStore.replace(id, user(id));
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, userCount + 1);
+    }
+
+    private static User user(long id) {
+        return new User(id, "사용자" + id, "user" + id + "@example.com", "010-0000-" + id);
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.openfeign.benchmark;
+
+import com.example.openfeign.common.User;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User DTO 직렬화 형식 비교 (JSON vs Smile)
+ * 단일 사용자(getUserById)와 사용자 맵(getAllUsers) 응답의 인코딩/디코딩 시간과 바이트 크기를 측정합니다.
+ *
+ * 바이트 크기는 벤치마크 시작 시 [payload] 로그로 출력됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<Map<Long, User>> USER_MAP = new TypeReference<>() {};
+
+    @Param({"json", "smile"})
+    public String format;
+
+    @Param({"1000"})
+    public int userCount;
+
+    private ObjectWriter userWriter;
+    private ObjectReader userReader;
+    private ObjectWriter mapWriter;
+    private ObjectReader mapReader;
+
+    private User user;
+    private Map<Long, User> users;
+    private byte[] encodedUser;
+    private byte[] encodedUsers;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = "smile".equals(format) ? new SmileMapper() : new ObjectMapper();
+        userWriter = mapper.writerFor(User.class);
+        userReader = mapper.readerFor(User.class);
+        mapWriter = mapper.writerFor(USER_MAP);
+        mapReader = mapper.readerFor(USER_MAP);
+
+        user = new User(1L, "김철수", "kim@example.com", "010-1234-5678");
+        users = new LinkedHashMap<>();
+        for (long id = 1; id <= userCount; id++) {
+            users.put(id, new User(id, "사용자" + id, "user" + id + "@example.com", "010-0000-" + String.format("%04d", id % 10000)));
+        }
+
+        encodedUser = userWriter.writeValueAsBytes(user);
+        encodedUsers = mapWriter.writeValueAsBytes(users);
+
+        System.out.printf("%n[payload] format=%s user=%d bytes, allUsers(%d)=%d bytes%n",
+            format, encodedUser.length, userCount, encodedUsers.length);
+    }
+
+    @Benchmark
+    public byte[] encodeUser() throws IOException {
+        return userWriter.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public User decodeUser() throws IOException {
+        return userReader.readValue(encodedUser);
+    }
+
+    @Benchmark
+    public byte[] encodeAllUsers() throws IOException {
+        return mapWriter.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public Map<Long, User> decodeAllUsers() throws IOException {
+        return mapReader.readValue(encodedUsers);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.openfeign.benchmark.support;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+
+/**
+ * 벤치마크 JVM 안에서 띄우는 Order Service (기본 rest 프로필)
+ * com.example.openfeign.order 패키지 전체(Feign 클라이언트, 데코레이터, 컨트롤러)를 등록하고 임의의 포트에서 실행합니다.
+ *
+ * 두 서비스의 application.yml이 모두 클래스패스에 있으므로 설정 파일은 읽지 않으며,
+ * 설정 파일과 다른 값이 필요하면 properties로 넘깁니다.
+ */
+public class InProcessOrderService implements AutoCloseable {
+
+    private final ServletWebServerApplicationContext context;
+
+    private InProcessOrderService(ServletWebServerApplicationContext context) {
+        this.context = context;
+    }
+
+    public static InProcessOrderService start(String userServiceUrl, String... properties) {
+        return startWithProfile("rest", userServiceUrl, properties);
+    }
+
+    /**
+     * UserClient 구현을 고르는 프로필(rest / restclient)을 지정해서 실행
+     */
+    public static InProcessOrderService startWithProfile(String profile, String userServiceUrl, String... properties) {
+        ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+            new SpringApplicationBuilder(OrderServiceApp.class)
+                .profiles(profile)
+                .properties(
+                    "spring.config.name=in-process-order-service",
+                    "spring.application.name=order-service",
+                    "spring.cloud.openfeign.httpclient.hc5.enabled=false",
+                    "server.port=0",
+                    "spring.main.banner-mode=off",
+                    "logging.level.root=WARN",
+                    "user.service.url=" + userServiceUrl)
+                .properties(properties)
+                .run();
+        return new InProcessOrderService(context);
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + context.getWebServer().getPort();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan("com.example.openfeign.order")
+    @ConfigurationPropertiesScan("com.example.openfeign.order")
+    static class OrderServiceApp {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.openfeign.benchmark.support;
+
+import com.example.openfeign.user.chaos.ChaosFilter;
+import com.example.openfeign.user.chaos.ChaosProperties;
+import com.example.openfeign.user.change.UserChangeProperties;
+import com.example.openfeign.user.change.UserChangeService;
+import com.example.openfeign.user.config.UserStoreConfig;
+import com.example.openfeign.user.controller.UserController;
+import com.example.openfeign.user.deadline.DeadlineFilter;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 벤치마크 JVM 안에서 띄우는 User Service
+ * UserController, UserChangeService, UserStoreConfig만 등록하고 임의의 포트에서 실행합니다.
+ * user.chaos.* 속성을 넘기면 ChaosFilter로 지연/오류를 주입합니다.
+ *
+ * 두 서비스의 application.yml이 모두 클래스패스에 있으므로 설정 파일은 읽지 않습니다.
+ */
+public class InProcessUserService implements AutoCloseable {
+
+    private final ServletWebServerApplicationContext context;
+
+    private InProcessUserService(ServletWebServerApplicationContext context) {
+        this.context = context;
+    }
+
+    public static InProcessUserService start(String... properties) {
+        ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+            new SpringApplicationBuilder(UserServiceApp.class)
+                .properties(
+                    "spring.config.name=in-process-user-service",
+                    "server.port=0",
+                    "spring.main.banner-mode=off",
+                    "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+        return new InProcessUserService(context);
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + context.getWebServer().getPort();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableConfigurationProperties({ChaosProperties.class, UserChangeProperties.class})
+    @Import({UserController.class, UserChangeService.class, UserStoreConfig.class, DeadlineFilter.class,
+        ChaosFilter.class})
+    static class UserServiceApp {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.openfeign.benchmark.support;
+
+import com.example.openfeign.order.client.RestClientUserClient;
+import com.example.openfeign.order.client.RestUserClient;
+import com.example.openfeign.order.client.UserClient;
+import com.example.openfeign.order.client.deadline.DeadlineRequestInterceptor;
+import com.example.openfeign.order.config.FeignConfig;
+import com.example.openfeign.order.config.RestClientConfig;
+import feign.Feign;
+import feign.Logger;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
+import feign.optionals.OptionalDecoder;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestClient;
+
+import java.util.Map;
+
+/**
+ * 구현 비교용 UserClient 생성 도우미
+ * 두 구현 모두 같은 Apache HttpClient 5와 FeignConfig의 타임아웃을 사용하고,
+ * 로깅, 재시도, 메트릭, 데코레이터 없이 구성합니다.
+ *
+ * - feign: RestUserClient (Spring MVC 계약, Spring 인코더/디코더)
+ * - restclient: RestClientConfig와 같은 방식으로 만든 RestClient + RestClientUserClient (처리 기한 인터셉터 제외)
+ */
+public final class UserClients {
+
+    private UserClients() {
+    }
+
+    public static UserClient create(String implementation, CloseableHttpClient httpClient, String url) {
+        return switch (implementation) {
+            case "feign" -> feign(httpClient, url);
+            case "restclient" -> restClient(httpClient, url);
+            default -> throw new IllegalArgumentException("Unknown UserClient implementation: " + implementation);
+        };
+    }
+
+    public static RestUserClient feign(CloseableHttpClient httpClient, String url) {
+        HttpMessageConverters messageConverters = new HttpMessageConverters(new MappingJackson2HttpMessageConverter());
+        ObjectFactory<HttpMessageConverters> converters = () -> messageConverters;
+
+        return Feign.builder()
+            .client(new ApacheHttp5Client(httpClient))
+            .contract(new SpringMvcContract())
+            .encoder(new SpringEncoder(converters))
+            .decoder(new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(converters))))
+            .options(new FeignConfig().requestOptions())
+            .retryer(Retryer.NEVER_RETRY)
+            .logLevel(Logger.Level.NONE)
+            .target(RestUserClient.class, url);
+    }
+
+    public static RestClientUserClient restClient(CloseableHttpClient httpClient, String url) {
+        RestClient restClient = new RestClientConfig().userServiceRestClient(RestClient.builder(), url,
+            new StaticListableBeanFactory(Map.of("userServiceHttpClient", httpClient))
+                .getBeanProvider(CloseableHttpClient.class),
+            new FeignConfig().requestOptions(),
+            new DefaultListableBeanFactory().getBeanProvider(DeadlineRequestInterceptor.class));
+        return new RestClientUserClient(restClient);
+    }
+}
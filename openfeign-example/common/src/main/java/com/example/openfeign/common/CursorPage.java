@@ -0,0 +1,19 @@
+package com.example.openfeign.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지
+ * 다음 페이지는 nextCursor를 after 파라미터로 넘겨서 조회합니다 (마지막 페이지면 null).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private Long nextCursor;
+}
@@ -0,0 +1,93 @@
+package com.example.openfeign.common;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 요청 처리 기한
+ *
+ * 서비스 간에는 X-Request-Timeout 헤더로 남은 시간(밀리초)을 전달하고, 받는 쪽은 받은 시점부터 다시 계산합니다.
+ * 절대 시각 대신 남은 시간을 보내므로 서버 간 시계 차이의 영향을 받지 않습니다 (네트워크 지연만큼 여유가 줄어듦).
+ *
+ * 현재 요청의 기한은 스레드에 붙여 두며(attach), 다른 스레드에서 이어서 처리할 작업은 wrap으로 감싸서 넘깁니다.
+ */
+public final class Deadline {
+
+    public static final String HEADER = "X-Request-Timeout";
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 현재 스레드의 기한 (없으면 null)
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * X-Request-Timeout 헤더 값(밀리초)을 해석 (없거나 형식이 잘못되면 null)
+     */
+    public static Duration parseHeader(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofMillis(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public long remainingMillis() {
+        return Math.max(0, (deadlineNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 현재 스레드에 기한을 붙임 (close하면 이전 기한으로 되돌림)
+     */
+    public Scope attach() {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드의 기한을 작업을 실행하는 스레드에도 붙이도록 감쌈 (기한이 없으면 그대로 반환)
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Deadline deadline = current();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = deadline.attach()) {
+                return task.call();
+            }
+        };
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.openfeign.common;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서 이벤트를 전달하는 UserChangeTransport (브로커 없이 테스트/벤치마크용)
+ *
+ * 구독자마다 크기가 정해진 큐와 전달 스레드(데몬 스레드)를 둡니다.
+ * publish는 큐에 넣기만 하므로 막히지 않으며, 큐가 가득 차면 그 구독자에 대한 이벤트를 버립니다.
+ * 버려진 이벤트는 구독자가 version 누락으로 감지하고 다시 동기화합니다.
+ */
+public class LocalUserChangeTransport implements UserChangeTransport {
+
+    private final int queueCapacity;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public LocalUserChangeTransport() {
+        this(10_000);
+    }
+
+    public LocalUserChangeTransport(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public void publish(UserChangeEvent event) {
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.queue.offer(event)) {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public AutoCloseable subscribe(Consumer<UserChangeEvent> listener) {
+        Subscription subscription = new Subscription(listener);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * 큐가 가득 차서 버린 이벤트 수 (모든 구독자 합계)
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    private class Subscription implements AutoCloseable {
+
+        private final BlockingQueue<UserChangeEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Thread dispatcher;
+
+        Subscription(Consumer<UserChangeEvent> listener) {
+            this.dispatcher = new Thread(() -> dispatch(listener), "user-change-dispatcher");
+            this.dispatcher.setDaemon(true);
+            this.dispatcher.start();
+        }
+
+        private void dispatch(Consumer<UserChangeEvent> listener) {
+            while (!Thread.currentThread().isInterrupted()) {
+                UserChangeEvent event;
+                try {
+                    event = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    // listener 오류로 전달 스레드가 멈추지 않도록 무시 (누락은 구독자가 version으로 감지)
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+            dispatcher.interrupt();
+        }
+    }
+}
@@ -12,4 +12,14 @@ public class User {
     private String name;
     private String email;
     private String phone;
+
+    /**
+     * 마지막 변경의 버전 (User Service가 변경마다 매기는 전역 순번, 아직 버전이 없으면 null)
+     * 같은 사용자의 버전은 항상 증가합니다.
+     */
+    private Long version;
+
+    public User(Long id, String name, String email, String phone) {
+        this(id, name, email, phone, null);
+    }
 }
@@ -0,0 +1,33 @@
+package com.example.openfeign.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 변경 이벤트
+ *
+ * version은 User Service가 변경마다 1씩 증가시키는 전역 순번이며, 변경 후 사용자의 버전이기도 합니다.
+ * - 구독자는 version이 마지막으로 받은 값 + 1이 아니면 이벤트를 놓친 것으로 보고 다시 동기화합니다.
+ * - previousVersion은 변경 전 사용자의 버전입니다 (없던 사용자면 0).
+ *   로컬 사본의 버전과 다르면 그 사용자에 대한 변경을 놓친 것입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private Type type;
+    private Long userId;
+    private long version;
+    private long previousVersion;
+
+    /**
+     * 변경 후 사용자 (DELETED면 null)
+     */
+    private User user;
+}
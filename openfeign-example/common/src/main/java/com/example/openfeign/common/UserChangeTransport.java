@@ -0,0 +1,27 @@
+package com.example.openfeign.common;
+
+import java.util.function.Consumer;
+
+/**
+ * 사용자 변경 이벤트 전달 수단
+ *
+ * User Service는 변경 순서대로 publish하고, 구독자는 subscribe로 등록한 listener에서 이벤트를 받습니다.
+ * 같은 JVM에서는 LocalUserChangeTransport를 사용하며, 메시지 브로커 등 실제 전송 수단은 이 인터페이스를 구현해서 연결합니다.
+ *
+ * 전달은 최선 노력(best effort)입니다. 이벤트가 빠지거나 중복될 수 있으므로
+ * 구독자는 version으로 누락을 감지하고 다시 동기화해야 합니다.
+ */
+public interface UserChangeTransport {
+
+    /**
+     * 이벤트 발행 (변경 처리 중에 호출되므로 오래 막히지 않아야 함)
+     */
+    void publish(UserChangeEvent event);
+
+    /**
+     * 구독 등록
+     *
+     * @return close하면 구독 해제
+     */
+    AutoCloseable subscribe(Consumer<UserChangeEvent> listener);
+}
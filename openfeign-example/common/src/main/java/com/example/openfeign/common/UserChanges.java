@@ -0,0 +1,27 @@
+package com.example.openfeign.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 특정 버전 이후의 사용자 변경 이벤트 목록 (버전 순)
+ *
+ * User Service는 최근 변경만 보관하므로, 요청한 버전 이후의 이벤트가 이미 버려졌으면
+ * truncated가 true이고 events는 비어 있습니다. 이때는 전체 목록으로 다시 동기화해야 합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChanges {
+    private List<UserChangeEvent> events;
+
+    /**
+     * 응답 시점의 최신 버전
+     */
+    private long latestVersion;
+
+    private boolean truncated;
+}
@@ -0,0 +1,61 @@
+package com.example.openfeign.common;
+
+import java.util.Collection;
+
+/**
+ * 사용자 내용으로 만드는 ETag
+ *
+ * 필드 값(버전 포함)의 64비트 해시(FNV-1a)를 사용하므로 내용이 같으면 ETag도 같습니다.
+ * JSON/Smile 등 표현 형식과 관계없이 같은 값이므로 약한(weak) ETag로 내보냅니다.
+ *
+ * User Service가 응답에 붙이고, Order Service는 일괄 조회 등 ETag 없이 받은 사용자의 ETag를 직접 계산해
+ * 조건부 조회(If-None-Match)에 사용합니다.
+ */
+public final class UserEtags {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private UserEtags() {
+    }
+
+    public static String of(User user) {
+        return format(hash(FNV_OFFSET, user));
+    }
+
+    /**
+     * 목록 ETag (순서와 nextCursor까지 반영)
+     */
+    public static String of(Collection<User> users, Long nextCursor) {
+        long hash = FNV_OFFSET;
+        for (User user : users) {
+            hash = hash(hash, user);
+        }
+        return format(mix(hash, nextCursor == null ? "" : nextCursor.toString()));
+    }
+
+    private static long hash(long hash, User user) {
+        hash = mix(hash, String.valueOf(user.getId()));
+        hash = mix(hash, user.getName());
+        hash = mix(hash, user.getEmail());
+        hash = mix(hash, user.getPhone());
+        return mix(hash, String.valueOf(user.getVersion()));
+    }
+
+    /**
+     * 문자열을 해시에 섞음 (null과 빈 문자열을 구분하기 위해 구분 값도 함께 섞음)
+     */
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0xFF) * FNV_PRIME;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ 0xFE) * FNV_PRIME;
+    }
+
+    private static String format(long hash) {
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.User;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * User Service 비동기 클라이언트 인터페이스
+ * 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+ *
+ * 구현체:
+ * - HttpAsyncUserClient: JDK HttpClient(논블로킹)를 사용한 실제 HTTP 호출 (@Profile({"rest", "restclient"}))
+ * - StubAsyncUserClient: StubUserClient를 감싼 테스트용 구현체 (@Profile("stub"))
+ */
+public interface AsyncUserClient {
+
+    /**
+     * 특정 사용자 조회
+     */
+    CompletableFuture<User> getUserByIdAsync(Long id);
+
+    /**
+     * 모든 사용자 조회
+     */
+    CompletableFuture<Map<Long, User>> getAllUsersAsync();
+
+    /**
+     * 여러 사용자 일괄 조회
+     * 존재하지 않는 ID는 결과에서 제외됩니다.
+     */
+    CompletableFuture<List<User>> getUsersByIdsAsync(List<Long> ids);
+
+    /**
+     * 새 사용자 생성
+     */
+    CompletableFuture<User> createUserAsync(User user);
+
+    /**
+     * 사용자 정보 수정
+     */
+    CompletableFuture<User> updateUserAsync(Long id, User user);
+
+    /**
+     * 사용자 삭제
+     */
+    CompletableFuture<Void> deleteUserAsync(Long id);
+}
@@ -0,0 +1,239 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.Deadline;
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeEvent;
+import com.example.openfeign.common.UserEtags;
+import com.example.openfeign.order.client.deadline.DeadlineExceededException;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 조회 결과를 프로세스 내부에 보관하는 near-cache UserClient 데코레이터
+ *
+ * - maxEntries: 최대 항목 수 (초과 시 Caffeine의 W-TinyLFU 정책으로 제거)
+ * - ttl: 저장 후 만료 시간
+ * - refreshAfter: 이 시간이 지난 항목은 조회 시 기존 값을 돌려주면서 백그라운드로 갱신 (refresh-ahead)
+ * - updateUser / deleteUser / createUser가 이 클라이언트를 거치면 해당 항목을 무효화합니다.
+ * - 다른 경로의 변경은 사용자 복제본의 변경 이벤트(onUserChange)로 무효화합니다 (UserClientConfig에서 리스너 등록).
+ *
+ * 캐시 미스는 getUserById / getUsersByIds로 조회하므로 아래 데코레이터(single-flight, 헤지 등)가 그대로 적용되고,
+ * 받은 사용자의 ETag는 User Service와 같은 방식(UserEtags)으로 계산해 함께 보관합니다.
+ * refresh-ahead 갱신만 If-None-Match로 조건부 조회하며(getUserByIdIfNoneMatch), 단건/일괄 조회로 채운 항목 모두
+ * 변경이 없으면 서버가 바디 없이 304를 돌려주고 기존 값을 그대로 재사용하므로 헤더만 오갑니다.
+ * 갱신은 백그라운드에서 Caffeine이 키마다 하나만 실행하므로 헤지 요청과 single-flight를 거치지 않습니다.
+ *
+ * 캐시 미스 조회는 AsyncLoadingCache로 가상 스레드에서 실행하고, 호출한 스레드는 결과 future를 기다립니다.
+ * 동기 LoadingCache는 ConcurrentHashMap.compute(synchronized) 안에서 User Service를 호출하므로
+ * 가상 스레드가 응답을 기다리는 동안 캐리어 스레드를 점유(pinning)합니다.
+ * 조회는 여러 호출자가 함께 기다리므로 처음 요청한 호출자의 처리 기한(Deadline) 없이 설정된 타임아웃으로 실행하고,
+ * 호출자마다 자기 기한까지만 기다립니다 (지나면 DeadlineExceededException, 조회는 계속되어 캐시를 채움).
+ *
+ * 메트릭: cache.gets{cache=user.client,result=hit|miss}, cache.evictions, cache.size 등
+ *        user.client.cache.revalidations{result=not_modified|modified}
+ */
+public class CachingUserClient implements UserClient {
+
+    public static final String CACHE_NAME = "user.client";
+
+    private final UserClient delegate;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AsyncLoadingCache<Long, CachedUser> cache;
+
+    public CachingUserClient(UserClient delegate,
+                             UserClientProperties.Cache properties,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxEntries())
+            .expireAfterWrite(properties.getTtl())
+            .executor(executor)
+            .recordStats();
+        if (properties.getRefreshAfter() != null && !properties.getRefreshAfter().isZero()) {
+            builder.refreshAfterWrite(properties.getRefreshAfter());
+        }
+        this.cache = builder.buildAsync(new UserLoader(delegate,
+            meterRegistry.counter("user.client.cache.revalidations", "result", "not_modified"),
+            meterRegistry.counter("user.client.cache.revalidations", "result", "modified")));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public User getUserById(Long id) {
+        return join(cache.get(id), "getUserById").user();
+    }
+
+    @Override
+    public Map<Long, User> getAllUsers() {
+        return delegate.getAllUsers();
+    }
+
+    @Override
+    public CursorPage<User> getUsersPage(Long after, int limit) {
+        return delegate.getUsersPage(after, limit);
+    }
+
+    @Override
+    public Stream<User> streamAllUsers() {
+        return delegate.streamAllUsers();
+    }
+
+    /**
+     * 캐시에 없는 ID만 모아서 한 번의 일괄 조회로 채웁니다.
+     */
+    @Override
+    public List<User> getUsersByIds(List<Long> ids) {
+        List<User> users = new ArrayList<>(ids.size());
+        for (CachedUser cached : join(cache.getAll(ids), "getUsersByIds").values()) {
+            users.add(cached.user());
+        }
+        return users;
+    }
+
+    @Override
+    public User createUser(User user) {
+        User created = delegate.createUser(user);
+        cache.synchronous().invalidate(created.getId());
+        return created;
+    }
+
+    @Override
+    public User updateUser(Long id, User user) {
+        try {
+            return delegate.updateUser(id, user);
+        } finally {
+            cache.synchronous().invalidate(id);
+        }
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+        try {
+            delegate.deleteUser(id);
+        } finally {
+            cache.synchronous().invalidate(id);
+        }
+    }
+
+    /**
+     * 사용자 변경 이벤트 (UserReplica 리스너): 해당 항목 무효화
+     */
+    public void onUserChange(UserChangeEvent event) {
+        cache.synchronous().invalidate(event.getUserId());
+    }
+
+    /**
+     * 캐시에 보관하는 사용자와 ETag
+     */
+    private record CachedUser(User user, String etag) {
+    }
+
+    /**
+     * 조회 결과를 현재 스레드의 처리 기한까지 기다림 (기한이 없으면 끝날 때까지)
+     * 예외는 CompletionException으로 감싸지 않고 그대로 던집니다 (동기 조회와 같은 예외).
+     */
+    private static <T> T join(CompletableFuture<T> future, String call) {
+        Deadline deadline = Deadline.current();
+        try {
+            if (deadline == null) {
+                return future.join();
+            }
+            return future.get(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+        } catch (CompletionException | ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("cached " + call);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for " + call, e);
+        }
+    }
+
+    /**
+     * 캐시 미스 시 delegate로 조회
+     * getAll()로 여러 ID가 동시에 미스되면 asyncLoadAll()로 한 번에 일괄 조회합니다.
+     * refresh 시에는 보관한 ETag로 조건부 조회하여 304면 기존 값을 그대로 사용합니다.
+     */
+    private record UserLoader(UserClient delegate, Counter notModified, Counter modified)
+        implements AsyncCacheLoader<Long, CachedUser> {
+
+        @Override
+        public CompletableFuture<CachedUser> asyncLoad(Long id, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> cached(delegate.getUserById(id)), executor);
+        }
+
+        @Override
+        public CompletableFuture<Map<Long, CachedUser>> asyncLoadAll(Set<? extends Long> ids, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> {
+                Map<Long, CachedUser> users = new HashMap<>();
+                for (User user : delegate.getUsersByIds(new ArrayList<>(ids))) {
+                    users.put(user.getId(), cached(user));
+                }
+                return users;
+            }, executor);
+        }
+
+        @Override
+        public CompletableFuture<CachedUser> asyncReload(Long id, CachedUser oldValue, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> reload(id, oldValue), executor);
+        }
+
+        private CachedUser reload(Long id, CachedUser oldValue) {
+            CachedUser reloaded = fetch(id, oldValue.etag());
+            if (reloaded == null) {
+                notModified.increment();
+                return oldValue;
+            }
+            modified.increment();
+            return reloaded;
+        }
+
+        /**
+         * 조건부 조회 (304면 null)
+         */
+        private CachedUser fetch(Long id, String etag) {
+            ResponseEntity<User> response = delegate.getUserByIdIfNoneMatch(id, etag);
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return null;
+            }
+            User user = response.getBody();
+            String newEtag = response.getHeaders().getETag();
+            return new CachedUser(user, newEtag != null ? newEtag : UserEtags.of(user));
+        }
+
+        private static CachedUser cached(User user) {
+            return new CachedUser(user, UserEtags.of(user));
+        }
+    }
+}
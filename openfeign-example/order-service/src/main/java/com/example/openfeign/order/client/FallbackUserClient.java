@@ -0,0 +1,149 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeEvent;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * getUserById 실패 시 대체 응답을 돌려주는 UserClient 데코레이터
+ * 서킷 차단, Bulkhead/Limiter 거절, 타임아웃, 5xx처럼 User Service 쪽 문제로 실패했을 때만 적용되며,
+ * 4xx(존재하지 않는 사용자 등, FeignClientException / HttpClientErrorException)는 그대로 전달합니다.
+ *
+ * 모드 (user.client.resilience.fallback.mode):
+ * - NONE: 대체 응답 없이 예외 전달
+ * - CACHED: 마지막으로 성공한 조회 결과 (없으면 예외 전달)
+ * - PARTIAL: ID만 채운 사용자 (이름/이메일/전화번호는 null)
+ *
+ * near-cache보다 바깥에 두어 대체 응답이 캐시에 저장되지 않도록 합니다.
+ * 사용자 존재 확인(getExistingUserById)에는 대체 응답을 쓰지 않습니다.
+ * CACHED 모드의 보관 값은 사용자 복제본의 변경 이벤트(onUserChange)로 바꾸거나 제거합니다.
+ *
+ * 메트릭: user.client.fallback{mode=...}
+ */
+@Slf4j
+public class FallbackUserClient implements UserClient {
+
+    public enum Mode { NONE, CACHED, PARTIAL }
+
+    private final UserClient delegate;
+    private final Mode mode;
+    private final Cache<Long, User> lastKnownUsers;
+    private final Counter fallbacks;
+
+    public FallbackUserClient(UserClient delegate,
+                              UserClientProperties.Resilience.Fallback properties,
+                              MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.mode = properties.getMode();
+        this.lastKnownUsers = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxEntries())
+            .build();
+        this.fallbacks = Counter.builder("user.client.fallback")
+            .description("getUserById calls answered by the fallback")
+            .tag("mode", mode.name().toLowerCase())
+            .register(meterRegistry);
+    }
+
+    @Override
+    public User getUserById(Long id) {
+        try {
+            User user = delegate.getUserById(id);
+            if (mode == Mode.CACHED) {
+                lastKnownUsers.put(id, user);
+            }
+            return user;
+        } catch (FeignException.FeignClientException | HttpClientErrorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            User fallback = fallback(id);
+            if (fallback == null) {
+                throw e;
+            }
+            log.warn("Serving {} fallback for user {}: {}", mode, id, e.toString());
+            fallbacks.increment();
+            return fallback;
+        }
+    }
+
+    /**
+     * 사용자 존재 확인은 대체 응답 없이 delegate로 조회 (없는 사용자를 PARTIAL로 만들어 주문을 받지 않도록)
+     */
+    @Override
+    public User getExistingUserById(Long id) {
+        return delegate.getUserById(id);
+    }
+
+    private User fallback(Long id) {
+        return switch (mode) {
+            case NONE -> null;
+            case CACHED -> lastKnownUsers.getIfPresent(id);
+            case PARTIAL -> new User(id, null, null, null);
+        };
+    }
+
+    /**
+     * 사용자 변경 이벤트 (UserReplica 리스너): 보관 중인 사용자를 변경 후 값으로 바꾸고, 삭제됐으면 제거
+     */
+    public void onUserChange(UserChangeEvent event) {
+        if (event.getType() == UserChangeEvent.Type.DELETED || event.getUser() == null) {
+            lastKnownUsers.invalidate(event.getUserId());
+        } else {
+            lastKnownUsers.asMap().computeIfPresent(event.getUserId(), (id, user) -> event.getUser());
+        }
+    }
+
+    @Override
+    public ResponseEntity<User> getUserByIdIfNoneMatch(Long id, String etag) {
+        return delegate.getUserByIdIfNoneMatch(id, etag);
+    }
+
+    @Override
+    public Map<Long, User> getAllUsers() {
+        return delegate.getAllUsers();
+    }
+
+    @Override
+    public CursorPage<User> getUsersPage(Long after, int limit) {
+        return delegate.getUsersPage(after, limit);
+    }
+
+    @Override
+    public Stream<User> streamAllUsers() {
+        return delegate.streamAllUsers();
+    }
+
+    @Override
+    public List<User> getUsersByIds(List<Long> ids) {
+        return delegate.getUsersByIds(ids);
+    }
+
+    @Override
+    public User createUser(User user) {
+        return delegate.createUser(user);
+    }
+
+    @Override
+    public User updateUser(Long id, User user) {
+        lastKnownUsers.invalidate(id);
+        return delegate.updateUser(id, user);
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+        lastKnownUsers.invalidate(id);
+        delegate.deleteUser(id);
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.Deadline;
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.resilience.RequestBudget;
+import com.example.openfeign.order.config.UserClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 헤지 요청(hedged request)으로 꼬리 지연을 줄이는 UserClient 데코레이터
+ * 읽기 전용 메서드(getUserById, getAllUsers)만 적용합니다.
+ *
+ * - 첫 요청이 delay 안에 끝나지 않으면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용
+ * - 나머지 요청은 취소 (가상 스레드에서 실행하므로 인터럽트로 소켓 대기가 중단됨)
+ *   취소된 요청은 ResilientUserClient가 서킷 브레이커 실패와 동시성 한도에 반영하지 않음
+ * - 요청 처리 기한(Deadline)은 요청을 실행하는 가상 스레드에도 그대로 전달
+ * - delay는 최근 첫 요청(primary) 응답 시간의 percentile (minDelay 이상)
+ *   헤지 요청이 이겨 빨라진 응답을 넣으면 percentile이 점점 낮아지므로 첫 요청의 시간만 기록
+ *   (헤지 요청이 이겨 취소된 첫 요청은 취소될 때까지 걸린 시간)
+ * - RequestBudget으로 헤지 요청 비율을 제한하여 장애 시 부하 증폭을 막음
+ *
+ * 메트릭: user.client.hedge{method,result=sent|won|denied}, user.client.hedge.delay{method},
+ * user.client.hedge.latency{method} (첫 요청 응답 시간)
+ */
+public class HedgingUserClient implements UserClient {
+
+    private final UserClient delegate;
+    private final UserClientProperties.Hedging properties;
+    private final RequestBudget budget;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HedgedMethod getUserById;
+    private final HedgedMethod getAllUsers;
+
+    public HedgingUserClient(UserClient delegate,
+                             UserClientProperties.Hedging properties,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.budget = new RequestBudget(properties.getBudgetRatio(), properties.getMaxBurst());
+        this.getUserById = new HedgedMethod("getUserById", meterRegistry);
+        this.getAllUsers = new HedgedMethod("getAllUsers", meterRegistry);
+    }
+
+    @Override
+    public User getUserById(Long id) {
+        return hedged(getUserById, () -> delegate.getUserById(id));
+    }
+
+    @Override
+    public ResponseEntity<User> getUserByIdIfNoneMatch(Long id, String etag) {
+        return delegate.getUserByIdIfNoneMatch(id, etag);
+    }
+
+    @Override
+    public Map<Long, User> getAllUsers() {
+        return hedged(getAllUsers, delegate::getAllUsers);
+    }
+
+    @Override
+    public CursorPage<User> getUsersPage(Long after, int limit) {
+        return delegate.getUsersPage(after, limit);
+    }
+
+    @Override
+    public Stream<User> streamAllUsers() {
+        return delegate.streamAllUsers();
+    }
+
+    @Override
+    public List<User> getUsersByIds(List<Long> ids) {
+        return delegate.getUsersByIds(ids);
+    }
+
+    @Override
+    public User createUser(User user) {
+        return delegate.createUser(user);
+    }
+
+    @Override
+    public User updateUser(Long id, User user) {
+        return delegate.updateUser(id, user);
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+        delegate.deleteUser(id);
+    }
+
+    private <T> T hedged(HedgedMethod method, Callable<T> task) {
+        budget.onRequest();
+        Callable<T> call = Deadline.wrap(task);
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+
+        Future<T> primary = completion.submit(method.timed(call));
+        Future<T> hedge = null;
+        try {
+            Future<T> first = completion.poll(method.delayNanos(), TimeUnit.NANOSECONDS);
+            if (first == null) {
+                if (budget.tryAcquire()) {
+                    method.sent.increment();
+                    hedge = completion.submit(call);
+                } else {
+                    method.denied.increment();
+                }
+                first = completion.take();
+            }
+
+            // 먼저 끝난 요청이 실패했고 다른 요청이 진행 중이면 그 결과를 기다림
+            if (hedge != null && isFailed(first)) {
+                first = completion.take();
+            }
+            if (first == hedge) {
+                method.won.increment();
+            }
+            return unwrap(first);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for user-service", e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private static boolean isFailed(Future<?> future) {
+        try {
+            future.get();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
+    private static <T> T unwrap(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 메서드별 응답 시간 분포와 헤지 지연 시간
+     * percentile은 Micrometer Timer의 시간 구간별 히스토그램에서 계산하며, 1초에 한 번만 갱신합니다.
+     */
+    private class HedgedMethod {
+
+        private final Timer latency;
+        private final Counter sent;
+        private final Counter won;
+        private final Counter denied;
+
+        private volatile long delayNanos;
+        private volatile long delayComputedAt;
+
+        HedgedMethod(String name, MeterRegistry meterRegistry) {
+            this.latency = Timer.builder("user.client.hedge.latency")
+                .description("Latency of primary attempts of hedged calls")
+                .tag("method", name)
+                .publishPercentiles(properties.getPercentile())
+                .register(meterRegistry);
+            this.sent = hedgeCounter(meterRegistry, name, "sent");
+            this.won = hedgeCounter(meterRegistry, name, "won");
+            this.denied = hedgeCounter(meterRegistry, name, "denied");
+            this.delayNanos = properties.getMinDelay().toNanos();
+
+            Gauge.builder("user.client.hedge.delay", this, method -> method.delayNanos / 1_000_000.0)
+                .description("Current hedge delay in milliseconds")
+                .tag("method", name)
+                .register(meterRegistry);
+        }
+
+        /**
+         * 첫 요청의 응답 시간을 기록하는 호출
+         * 실패한 호출은 기록하지 않고, 취소된 호출은 취소될 때까지의 시간을 기록합니다 (실제 응답 시간의 하한).
+         */
+        <T> Callable<T> timed(Callable<T> call) {
+            return () -> {
+                long start = System.nanoTime();
+                try {
+                    T result = call.call();
+                    latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return result;
+                } catch (Exception | Error e) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                    throw e;
+                }
+            };
+        }
+
+        long delayNanos() {
+            long now = System.nanoTime();
+            if (now - delayComputedAt > TimeUnit.SECONDS.toNanos(1)) {
+                delayComputedAt = now;
+                long minDelay = properties.getMinDelay().toNanos();
+                for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+                    delayNanos = Math.max(minDelay, (long) value.value(TimeUnit.NANOSECONDS));
+                }
+            }
+            return delayNanos;
+        }
+
+        private static Counter hedgeCounter(MeterRegistry meterRegistry, String method, String result) {
+            return Counter.builder("user.client.hedge")
+                .description("Hedged requests by result")
+                .tag("method", method)
+                .tag("result", result)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.Deadline;
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.loadbalancer.UserServiceInstance;
+import com.example.openfeign.order.client.loadbalancer.UserServiceLoadBalancer;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * JDK HttpClient 기반 AsyncUserClient 구현
+ * 논블로킹 I/O로 요청을 보내고, 응답이 오면 CompletableFuture를 완료합니다.
+ * RestUserClient와 같은 엔드포인트와 User DTO를 사용합니다.
+ * 로드 밸런서가 켜져 있으면(user.client.load-balancer.enabled) 요청마다 인스턴스를 선택합니다.
+ *
+ * 사용법:
+ * --spring.profiles.active=order-service,rest (또는 restclient)
+ */
+@Component
+@Profile({"rest", "restclient"})
+public class HttpAsyncUserClient implements AsyncUserClient {
+
+    private static final TypeReference<Map<Long, User>> USER_MAP = new TypeReference<>() {};
+    private static final TypeReference<List<User>> USER_LIST = new TypeReference<>() {};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final UserServiceLoadBalancer loadBalancer;
+    private final Duration requestTimeout;
+    private final JavaType userType;
+    private final JavaType userMapType;
+    private final JavaType userListType;
+
+    public HttpAsyncUserClient(@Value("${user.service.url}") String userServiceUrl,
+                               UserClientProperties properties,
+                               ObjectMapper objectMapper,
+                               ObjectProvider<UserServiceLoadBalancer> loadBalancer) {
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(properties.getAsync().getConnectTimeout())
+            .build();
+        this.objectMapper = objectMapper;
+        this.baseUri = URI.create(userServiceUrl);
+        this.loadBalancer = loadBalancer.getIfAvailable();
+        this.requestTimeout = properties.getAsync().getRequestTimeout();
+        this.userType = objectMapper.constructType(User.class);
+        this.userMapType = objectMapper.constructType(USER_MAP);
+        this.userListType = objectMapper.constructType(USER_LIST);
+    }
+
+    @Override
+    public CompletableFuture<User> getUserByIdAsync(Long id) {
+        return send(request("/api/users/" + id).GET(), userType);
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, User>> getAllUsersAsync() {
+        return send(request("/api/users").GET(), userMapType);
+    }
+
+    @Override
+    public CompletableFuture<List<User>> getUsersByIdsAsync(List<Long> ids) {
+        return send(request("/api/users/batch").POST(json(ids)), userListType);
+    }
+
+    @Override
+    public CompletableFuture<User> createUserAsync(User user) {
+        return send(request("/api/users").POST(json(user)), userType);
+    }
+
+    @Override
+    public CompletableFuture<User> updateUserAsync(Long id, User user) {
+        return send(request("/api/users/" + id).PUT(json(user)), userType);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteUserAsync(Long id) {
+        return exchange(request("/api/users/" + id).DELETE()).thenApply(body -> null);
+    }
+
+    /**
+     * 요청 처리 기한이 있으면 타임아웃을 남은 시간으로 줄이고 X-Request-Timeout 헤더로 전달
+     * (요청을 만드는 시점, 즉 호출한 스레드의 기한 기준)
+     */
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(requestTimeout)
+            .header("Accept", "application/json");
+        Deadline deadline = Deadline.current();
+        if (deadline != null) {
+            long remaining = Math.max(1, deadline.remainingMillis());
+            builder.timeout(Duration.ofMillis(Math.min(remaining, requestTimeout.toMillis())))
+                .header(Deadline.HEADER, Long.toString(remaining));
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize request body", e);
+        }
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest.Builder request, JavaType type) {
+        return exchange(request).thenApply(body -> read(body, type));
+    }
+
+    /**
+     * 요청을 보내고 2xx 응답의 바디를 돌려줌 (그 외 상태 코드는 예외로 완료)
+     */
+    private CompletableFuture<byte[]> exchange(HttpRequest.Builder builder) {
+        HttpRequest request = builder.header("Content-Type", "application/json").build();
+        if (loadBalancer != null) {
+            return exchangeBalanced(request);
+        }
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(response -> body(request, response));
+    }
+
+    /**
+     * 로드 밸런서가 고른 인스턴스로 요청을 보내고 결과(응답 시간, 연결 오류/502·503 여부)를 기록
+     */
+    private CompletableFuture<byte[]> exchangeBalanced(HttpRequest request) {
+        UserServiceInstance instance = loadBalancer.choose();
+        StringBuilder uri = new StringBuilder(instance.getUri()).append(request.uri().getRawPath());
+        if (request.uri().getRawQuery() != null) {
+            uri.append('?').append(request.uri().getRawQuery());
+        }
+        HttpRequest balanced = HttpRequest.newBuilder(request, (name, value) -> true)
+            .uri(URI.create(uri.toString()))
+            .build();
+        long start = System.nanoTime();
+        return httpClient.sendAsync(balanced, HttpResponse.BodyHandlers.ofByteArray())
+            .whenComplete((response, error) -> loadBalancer.onComplete(instance, System.nanoTime() - start,
+                error == null && !UserServiceLoadBalancer.isInstanceFailure(response.statusCode())))
+            .thenApply(response -> body(balanced, response));
+    }
+
+    private static byte[] body(HttpRequest request, HttpResponse<byte[]> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new RuntimeException("User service responded " + response.statusCode()
+                + " for " + request.method() + " " + request.uri());
+        }
+        return response.body();
+    }
+
+    private <T> T read(byte[] body, JavaType type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.replica.UserReplica;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 복제본(UserReplica)에서 조회에 응답하는 UserClient 데코레이터 (user.client.replica.enabled=true)
+ *
+ * - getUserById / getUsersByIds: 복제본에 있으면 User Service를 호출하지 않음
+ *   복제본에 없는 ID(아직 반영되지 않은 신규 사용자, 존재하지 않는 사용자)만 delegate로 조회
+ * - 복제본이 아직 준비되지 않았으면(시작 직후, User Service 연결 실패) 모두 delegate로 조회
+ * - 그 외 메서드와 변경은 그대로 전달 (변경 결과는 변경 이벤트로 복제본에 반영됨)
+ *
+ * 복제본은 변경 이벤트로 갱신되므로 TTL 없이도 최신 상태를 유지합니다.
+ *
+ * 메트릭: user.client.replica.requests{result=hit|miss}
+ */
+public class ReplicatedUserClient implements UserClient {
+
+    private final UserClient delegate;
+    private final UserReplica replica;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ReplicatedUserClient(UserClient delegate, UserReplica replica, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.replica = replica;
+        this.hits = meterRegistry.counter("user.client.replica.requests", "result", "hit");
+        this.misses = meterRegistry.counter("user.client.replica.requests", "result", "miss");
+    }
+
+    @Override
+    public User getUserById(Long id) {
+        if (replica.isReady()) {
+            User user = replica.get(id);
+            if (user != null) {
+                hits.increment();
+                return user;
+            }
+        }
+        misses.increment();
+        return delegate.getUserById(id);
+    }
+
+    @Override
+    public ResponseEntity<User> getUserByIdIfNoneMatch(Long id, String etag) {
+        return delegate.getUserByIdIfNoneMatch(id, etag);
+    }
+
+    @Override
+    public Map<Long, User> getAllUsers() {
+        return delegate.getAllUsers();
+    }
+
+    @Override
+    public CursorPage<User> getUsersPage(Long after, int limit) {
+        return delegate.getUsersPage(after, limit);
+    }
+
+    @Override
+    public Stream<User> streamAllUsers() {
+        return delegate.streamAllUsers();
+    }
+
+    @Override
+    public List<User> getUsersByIds(List<Long> ids) {
+        if (!replica.isReady()) {
+            misses.increment(ids.size());
+            return delegate.getUsersByIds(ids);
+        }
+        List<User> users = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            User user = replica.get(id);
+            if (user != null) {
+                users.add(user);
+            } else {
+                missing.add(id);
+            }
+        }
+        hits.increment(users.size());
+        if (!missing.isEmpty()) {
+            misses.increment(missing.size());
+            users.addAll(delegate.getUsersByIds(missing));
+        }
+        return users;
+    }
+
+    @Override
+    public User createUser(User user) {
+        return delegate.createUser(user);
+    }
+
+    @Override
+    public User updateUser(Long id, User user) {
+        return delegate.updateUser(id, user);
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+        delegate.deleteUser(id);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.deadline.DeadlineExceededException;
+import com.example.openfeign.order.client.resilience.AimdConcurrencyLimiter;
+import com.example.openfeign.order.client.resilience.LimitExceededException;
+import com.example.openfeign.order.config.UserClientProperties;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * User Service 호출을 보호하는 UserClient 데코레이터
+ *
+ * 호출 순서: CircuitBreaker -> 메서드별 Bulkhead -> 적응형 동시성 제한(AIMD) -> delegate
+ * - CircuitBreaker: 실패율/느린 호출 비율이 임계치를 넘으면 일정 시간 호출 차단
+ * - Bulkhead: 메서드별 동시 호출 수 제한 (대기 없이 즉시 거절)
+ * - AimdConcurrencyLimiter: 응답 지연에 따라 전체 동시 호출 한도를 조절, 대기열이 쌓이기 전에 거절
+ *
+ * 4xx 응답, Bulkhead/Limiter 거절, 처리 기한이 지나 보내지 않은 호출, 취소(인터럽트)로 중단된 호출은
+ * 서킷 브레이커의 실패로 기록하지 않고 동시성 한도도 줄이지 않습니다.
+ * 헤지 요청(HedgingUserClient)에서 진 쪽은 인터럽트로 취소되므로 User Service 상태와 무관합니다.
+ *
+ * 메트릭: resilience4j.circuitbreaker.*, resilience4j.bulkhead.*, user.client.limiter.*
+ */
+public class ResilientUserClient implements UserClient {
+
+    static final String NAME = "user-service";
+
+    private final UserClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final AimdConcurrencyLimiter limiter;
+
+    public ResilientUserClient(UserClient delegate,
+                               UserClientProperties.Resilience properties,
+                               MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .failureRateThreshold(properties.getCircuitBreaker().getFailureRateThreshold())
+            .slowCallRateThreshold(properties.getCircuitBreaker().getSlowCallRateThreshold())
+            .slowCallDurationThreshold(properties.getCircuitBreaker().getSlowCallDuration())
+            .slidingWindowSize(properties.getCircuitBreaker().getSlidingWindowSize())
+            .minimumNumberOfCalls(properties.getCircuitBreaker().getMinimumNumberOfCalls())
+            .waitDurationInOpenState(properties.getCircuitBreaker().getWaitInOpenState())
+            .ignoreExceptions(FeignException.FeignClientException.class, HttpClientErrorException.class,
+                BulkheadFullException.class, LimitExceededException.class)
+            .ignoreException(ResilientUserClient::isIgnored)
+            .build());
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+
+        this.bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(properties.getBulkhead().getMaxConcurrentCalls())
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+        for (Map.Entry<String, Integer> method : properties.getBulkhead().getMethods().entrySet()) {
+            bulkheadRegistry.bulkhead(bulkheadName(method.getKey()), BulkheadConfig.custom()
+                .maxConcurrentCalls(method.getValue())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        }
+
+        UserClientProperties.Resilience.Limiter limiterProperties = properties.getLimiter();
+        this.limiter = new AimdConcurrencyLimiter(NAME,
+            limiterProperties.getInitialLimit(), limiterProperties.getMinLimit(), limiterProperties.getMaxLimit(),
+            limiterProperties.getBackoffRatio(), limiterProperties.getLatencyThreshold());
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        limiter.bindTo(meterRegistry);
+    }
+
+    @Override
+    public User getUserById(Long id) {
+        return execute("getUserById", () -> delegate.getUserById(id));
+    }
+
+    @Override
+    public ResponseEntity<User> getUserByIdIfNoneMatch(Long id, String etag) {
+        return execute("getUserByIdIfNoneMatch", () -> delegate.getUserByIdIfNoneMatch(id, etag));
+    }
+
+    @Override
+    public Map<Long, User> getAllUsers() {
+        return execute("getAllUsers", delegate::getAllUsers);
+    }
+
+    @Override
+    public CursorPage<User> getUsersPage(Long after, int limit) {
+        return execute("getUsersPage", () -> delegate.getUsersPage(after, limit));
+    }
+
+    /**
+     * Bulkhead와 동시성 제한 permit은 Stream을 닫을 때 반환합니다 (읽는 동안 연결을 계속 사용하므로).
+     * 다 읽기까지 걸리는 시간은 소비자 속도에 좌우되므로 동시성 한도 조절에는 반영하지 않습니다.
+     */
+    @Override
+    public Stream<User> streamAllUsers() {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(bulkheadName("streamAllUsers"));
+        return circuitBreaker.executeSupplier(() -> {
+            bulkhead.acquirePermission();
+            try {
+                limiter.acquire();
+            } catch (RuntimeException e) {
+                bulkhead.onComplete();
+                throw e;
+            }
+            try {
+                return delegate.streamAllUsers().onClose(() -> {
+                    limiter.onIgnored();
+                    bulkhead.onComplete();
+                });
+            } catch (RuntimeException | Error e) {
+                onFailure(e);
+                bulkhead.onComplete();
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public List<User> getUsersByIds(List<Long> ids) {
+        return execute("getUsersByIds", () -> delegate.getUsersByIds(ids));
+    }
+
+    @Override
+    public User createUser(User user) {
+        return execute("createUser", () -> delegate.createUser(user));
+    }
+
+    @Override
+    public User updateUser(Long id, User user) {
+        return execute("updateUser", () -> delegate.updateUser(id, user));
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+        execute("deleteUser", () -> {
+            delegate.deleteUser(id);
+            return null;
+        });
+    }
+
+    private <T> T execute(String method, Supplier<T> call) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(bulkheadName(method));
+        return circuitBreaker.executeSupplier(() -> bulkhead.executeSupplier(() -> limited(call)));
+    }
+
+    private <T> T limited(Supplier<T> call) {
+        limiter.acquire();
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            limiter.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException | Error e) {
+            onFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 실패한 호출의 동시성 제한 permit 반환 (과부하로 볼 수 있는 실패만 한도를 줄임)
+     */
+    private void onFailure(Throwable e) {
+        if (e instanceof FeignException.FeignClientException || e instanceof HttpClientErrorException || isIgnored(e)) {
+            limiter.onIgnored();
+        } else {
+            limiter.onDropped();
+        }
+    }
+
+    /**
+     * User Service 상태와 무관하게 실패한 호출 (서킷 브레이커와 동시성 한도에 반영하지 않음)
+     * 예외를 처리하는 스레드에서 호출되므로 인터럽트 상태로 취소 여부를 판단합니다.
+     */
+    private static boolean isIgnored(Throwable e) {
+        return isCallerDeadline(e) || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * 호출자의 처리 기한 때문에 실패한 호출 (보내지 않았거나, 기한에 맞춰 줄인 타임아웃이 지남)
+     */
+    private static boolean isCallerDeadline(Throwable e) {
+        return e instanceof DeadlineExceededException deadline && !deadline.isUserServiceTimeout();
+    }
+
+    private static String bulkheadName(String method) {
+        return NAME + "." + method;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.config.UserClientConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Spring RestClient 기반 UserClient 구현
+ * RestUserClient와 같은 엔드포인트와 User DTO를 사용하며, 인터페이스 프록시 없이 요청을 직접 만듭니다.
+ * RestClient 구성(커넥션 풀, 타임아웃, 처리 기한)은 RestClientConfig를 참고하세요.
+ *
+ * RestUserClient와의 차이:
+ * - 4xx/5xx 응답은 FeignException 대신 HttpClientErrorException / HttpServerErrorException
+ * - 재시도(BudgetedRetryer), 로드 밸런서, Smile, Feign 로깅은 적용되지 않음 (데코레이터는 그대로 적용)
+ * - 사용자 복제본(getUserChanges)은 지원하지 않음
+ *
+ * 사용법:
+ * --spring.profiles.active=order-service,restclient
+ */
+@Component
+@Qualifier(UserClientConfig.DELEGATE)
+@Profile("restclient")
+public class RestClientUserClient implements UserClient {
+
+    private static final ParameterizedTypeReference<Map<Long, User>> USER_MAP = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<List<User>> USER_LIST = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<CursorPage<User>> USER_PAGE = new ParameterizedTypeReference<>() {};
+
+    private final RestClient restClient;
+    private final DefaultResponseErrorHandler errorHandler = new DefaultResponseErrorHandler();
+
+    public RestClientUserClient(RestClient userServiceRestClient) {
+        this.restClient = userServiceRestClient;
+    }
+
+    @Override
+    public User getUserById(Long id) {
+        return restClient.get()
+            .uri("/api/users/{id}", id)
+            .retrieve()
+            .body(User.class);
+    }
+
+    /**
+     * 304 응답은 바디 없는 ResponseEntity로 돌려줍니다.
+     * (retrieve()는 304에도 바디를 읽으려 하므로 응답을 직접 처리)
+     */
+    @Override
+    public ResponseEntity<User> getUserByIdIfNoneMatch(Long id, String etag) {
+        return restClient.get()
+            .uri("/api/users/{id}", id)
+            .headers(headers -> {
+                if (etag != null) {
+                    headers.setIfNoneMatch(etag);
+                }
+            })
+            .exchange((request, response) -> {
+                if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(response.getHeaders()).build();
+                }
+                if (errorHandler.hasError(response)) {
+                    errorHandler.handleError(response);
+                }
+                return ResponseEntity.status(response.getStatusCode())
+                    .headers(response.getHeaders())
+                    .body(response.bodyTo(User.class));
+            });
+    }
+
+    @Override
+    public Map<Long, User> getAllUsers() {
+        return restClient.get()
+            .uri("/api/users")
+            .retrieve()
+            .body(USER_MAP);
+    }
+
+    /**
+     * 메트릭(http.client.requests)의 uri 태그가 값마다 늘어나지 않도록 쿼리도 템플릿으로 지정합니다.
+     */
+    @Override
+    public CursorPage<User> getUsersPage(Long after, int limit) {
+        RestClient.RequestHeadersSpec<?> request = after == null
+            ? restClient.get().uri("/api/users/page?limit={limit}", limit)
+            : restClient.get().uri("/api/users/page?after={after}&limit={limit}", after, limit);
+        return request.retrieve().body(USER_PAGE);
+    }
+
+    /**
+     * NDJSON 스트림을 한 줄씩 읽어 User로 변환 (한 번의 HTTP 호출)
+     * 응답은 Stream을 닫을 때 닫힙니다.
+     */
+    @Override
+    public Stream<User> streamAllUsers() {
+        return restClient.get()
+            .uri("/api/users/stream")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange((request, response) -> {
+                try {
+                    if (errorHandler.hasError(response)) {
+                        errorHandler.handleError(response);
+                    }
+                    return UserStreams.ndjson(response.getBody(), response);
+                } catch (IOException | RuntimeException e) {
+                    response.close();
+                    throw e;
+                }
+            }, false);
+    }
+
+    @Override
+    public List<User> getUsersByIds(List<Long> ids) {
+        return restClient.post()
+            .uri("/api/users/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ids)
+            .retrieve()
+            .body(USER_LIST);
+    }
+
+    @Override
+    public User createUser(User user) {
+        return restClient.post()
+            .uri("/api/users")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(user)
+            .retrieve()
+            .body(User.class);
+    }
+
+    @Override
+    public User updateUser(Long id, User user) {
+        return restClient.put()
+            .uri("/api/users/{id}", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(user)
+            .retrieve()
+            .body(User.class);
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+        restClient.delete()
+            .uri("/api/users/{id}", id)
+            .retrieve()
+            .toBodilessEntity();
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.openfeign.order.client;
 
 import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChanges;
 import com.example.openfeign.order.config.FeignConfig;
+import com.example.openfeign.order.config.UserClientConfig;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * REST 기반 UserClient 구현
@@ -20,8 +26,43 @@ import java.util.Map;
 @FeignClient(
     name = "user-service",
     url = "${user.service.url}",
-    configuration = FeignConfig.class
+    configuration = FeignConfig.class,
+    qualifiers = UserClientConfig.DELEGATE,
+    primary = false // 데코레이터가 적용된 UserClient(UserClientConfig)가 @Primary
 )
 @Profile("rest")
 public interface RestUserClient extends UserClient {
+
+    /**
+     * If-None-Match 헤더를 붙인 GET /api/users/{id}
+     * 304 응답은 NotModifiedResponseInterceptor가 예외 대신 바디 없는 ResponseEntity로 돌려줍니다.
+     */
+    @Override
+    @GetMapping("/api/users/{id}")
+    ResponseEntity<User> getUserByIdIfNoneMatch(@PathVariable("id") Long id,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String etag);
+
+    /**
+     * after 버전 이후의 사용자 변경 이벤트 (새 이벤트가 없으면 최대 waitMillis 동안 대기하는 롱 폴링)
+     * 사용자 복제본(UserReplicaSynchronizer)이 사용하며, 데코레이터를 거치지 않습니다.
+     */
+    @GetMapping("/api/users/changes")
+    UserChanges getUserChanges(@RequestParam("after") long after,
+                               @RequestParam("limit") int limit,
+                               @RequestParam("waitMillis") long waitMillis);
+
+    /**
+     * 모든 사용자를 NDJSON으로 스트리밍 조회 (응답 바디를 직접 읽어야 하며, 다 읽으면 닫아야 함)
+     */
+    @GetMapping(value = "/api/users/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Response streamUsers();
+
+    /**
+     * NDJSON 스트림을 한 줄씩 읽어 User로 변환 (한 번의 HTTP 호출)
+     * 스트리밍 응답은 StreamingAwareSlf4jLogger가 바디를 기록하지 않으므로 FULL 로깅에서도 버퍼링되지 않습니다.
+     */
+    @Override
+    default Stream<User> streamAllUsers() {
+        return UserStreams.ndjson(streamUsers(), "RestUserClient#streamUsers()");
+    }
 }
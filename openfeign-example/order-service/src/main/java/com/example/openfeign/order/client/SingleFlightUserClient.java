@@ -0,0 +1,127 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 동시 조회 합치기(single-flight) UserClient 데코레이터
+ * 같은 사용자 ID에 대한 조회가 이미 진행 중이면 새 호출을 보내지 않고,
+ * 진행 중인 호출의 결과(또는 예외)를 모든 대기자가 함께 받습니다.
+ *
+ * - ID별 ConcurrentHashMap 엔트리만 사용하므로 전역 락이 없습니다.
+ * - 조회 외의 메서드는 그대로 위임합니다.
+ *
+ * 메트릭: user.client.single.flight{result=executed|coalesced}
+ */
+public class SingleFlightUserClient implements UserClient {
+
+    private final UserClient delegate;
+    private final ConcurrentMap<Long, CompletableFuture<User>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlightUserClient(UserClient delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        FunctionCounter.builder("user.client.single.flight", executed, LongAdder::sum)
+            .description("Calls sent upstream by the single-flight decorator")
+            .tag("result", "executed")
+            .register(meterRegistry);
+        FunctionCounter.builder("user.client.single.flight", coalesced, LongAdder::sum)
+            .description("Calls that joined an in-flight call instead of going upstream")
+            .tag("result", "coalesced")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public User getUserById(Long id) {
+        CompletableFuture<User> call = new CompletableFuture<>();
+        CompletableFuture<User> existing = inFlight.putIfAbsent(id, call);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            User user = delegate.getUserById(id);
+            call.complete(user);
+            return user;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, call);
+        }
+    }
+
+    @Override
+    public ResponseEntity<User> getUserByIdIfNoneMatch(Long id, String etag) {
+        return delegate.getUserByIdIfNoneMatch(id, etag);
+    }
+
+    @Override
+    public Map<Long, User> getAllUsers() {
+        return delegate.getAllUsers();
+    }
+
+    @Override
+    public CursorPage<User> getUsersPage(Long after, int limit) {
+        return delegate.getUsersPage(after, limit);
+    }
+
+    @Override
+    public Stream<User> streamAllUsers() {
+        return delegate.streamAllUsers();
+    }
+
+    @Override
+    public List<User> getUsersByIds(List<Long> ids) {
+        return delegate.getUsersByIds(ids);
+    }
+
+    @Override
+    public User createUser(User user) {
+        return delegate.createUser(user);
+    }
+
+    @Override
+    public User updateUser(Long id, User user) {
+        return delegate.updateUser(id, user);
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+        delegate.deleteUser(id);
+    }
+
+    /**
+     * 진행 중인 호출의 결과를 기다림
+     * 호출한 쪽에서 던진 예외를 감싸지 않고 그대로 다시 던집니다.
+     */
+    private User await(CompletableFuture<User> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
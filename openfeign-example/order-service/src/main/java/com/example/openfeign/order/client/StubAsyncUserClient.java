@@ -0,0 +1,69 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.User;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * AsyncUserClient의 Stub 구현체
+ * StubUserClient의 메모리 데이터를 그대로 사용하고, 결과를 완료된 CompletableFuture로 돌려줍니다.
+ *
+ * 사용법:
+ * --spring.profiles.active=order-service,stub
+ */
+@Component
+@Profile("stub")
+public class StubAsyncUserClient implements AsyncUserClient {
+
+    private final StubUserClient stubUserClient;
+
+    public StubAsyncUserClient(StubUserClient stubUserClient) {
+        this.stubUserClient = stubUserClient;
+    }
+
+    @Override
+    public CompletableFuture<User> getUserByIdAsync(Long id) {
+        return complete(() -> stubUserClient.getUserById(id));
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, User>> getAllUsersAsync() {
+        return complete(stubUserClient::getAllUsers);
+    }
+
+    @Override
+    public CompletableFuture<List<User>> getUsersByIdsAsync(List<Long> ids) {
+        return complete(() -> stubUserClient.getUsersByIds(ids));
+    }
+
+    @Override
+    public CompletableFuture<User> createUserAsync(User user) {
+        return complete(() -> stubUserClient.createUser(user));
+    }
+
+    @Override
+    public CompletableFuture<User> updateUserAsync(Long id, User user) {
+        return complete(() -> stubUserClient.updateUser(id, user));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteUserAsync(Long id) {
+        return complete(() -> {
+            stubUserClient.deleteUser(id);
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> complete(Supplier<T> call) {
+        try {
+            return CompletableFuture.completedFuture(call.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
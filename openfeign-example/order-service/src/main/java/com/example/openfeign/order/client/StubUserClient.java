@@ -1,12 +1,21 @@
 package com.example.openfeign.order.client;
 
+import com.example.openfeign.common.CursorPage;
 import com.example.openfeign.common.User;
-import org.springframework.context.annotation.Primary;
+import com.example.openfeign.order.config.UserClientConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * UserClient의 Stub 구현체
@@ -16,11 +25,11 @@ import java.util.Map;
  * --spring.profiles.active=order-service,stub
  */
 @Component
-@Primary
+@Qualifier(UserClientConfig.DELEGATE)
 @Profile("stub")
 public class StubUserClient implements UserClient {
 
-    private final Map<Long, User> userDatabase = new HashMap<>();
+    private final NavigableMap<Long, User> userDatabase = new TreeMap<>();
 
     public StubUserClient() {
         // Stub 데이터 초기화
@@ -36,7 +45,7 @@ public class StubUserClient implements UserClient {
         System.out.println("🔧 [STUB] getUserById called with id: " + id);
         User user = userDatabase.get(id);
         if (user == null) {
-            throw new RuntimeException("User not found: " + id);
+            throw notFound(id);
         }
         return user;
     }
@@ -47,6 +56,29 @@ public class StubUserClient implements UserClient {
         return new HashMap<>(userDatabase);
     }
 
+    @Override
+    public CursorPage<User> getUsersPage(Long after, int limit) {
+        System.out.println("🔧 [STUB] getUsersPage called after: " + after + ", limit: " + limit);
+        List<User> items = (after == null ? userDatabase : userDatabase.tailMap(after, false)).values().stream()
+            .limit(limit + 1L)
+            .collect(Collectors.toList());
+        if (items.size() <= limit) {
+            return new CursorPage<>(items, null);
+        }
+        items = items.subList(0, limit);
+        return new CursorPage<>(items, items.get(limit - 1).getId());
+    }
+
+    @Override
+    public List<User> getUsersByIds(List<Long> ids) {
+        System.out.println("🔧 [STUB] getUsersByIds called with " + ids.size() + " ids");
+        return ids.stream()
+            .distinct()
+            .map(userDatabase::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public User createUser(User user) {
         System.out.println("🔧 [STUB] createUser called: " + user);
@@ -58,7 +90,7 @@ public class StubUserClient implements UserClient {
     public User updateUser(Long id, User user) {
         System.out.println("🔧 [STUB] updateUser called for id: " + id);
         if (!userDatabase.containsKey(id)) {
-            throw new RuntimeException("User not found: " + id);
+            throw notFound(id);
         }
         user.setId(id);
         userDatabase.put(id, user);
@@ -70,4 +102,11 @@ public class StubUserClient implements UserClient {
         System.out.println("🔧 [STUB] deleteUser called for id: " + id);
         userDatabase.remove(id);
     }
+
+    /**
+     * User Service의 404와 같은 예외 (4xx는 서킷 브레이커와 대체 응답에서 제외)
+     */
+    private static HttpClientErrorException notFound(Long id) {
+        return HttpClientErrorException.create(HttpStatus.NOT_FOUND, "User not found: " + id, null, null, null);
+    }
 }
@@ -1,31 +1,88 @@
 package com.example.openfeign.order.client;
 
+import com.example.openfeign.common.CursorPage;
 import com.example.openfeign.common.User;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * User Service 클라이언트 인터페이스
  *
  * 구현체:
  * - RestUserClient: OpenFeign을 사용한 실제 HTTP 호출 (@Profile("rest"))
+ * - RestClientUserClient: Spring RestClient를 사용한 실제 HTTP 호출 (@Profile("restclient"))
  * - StubUserClient: 메모리 기반 테스트용 구현체 (@Profile("stub"))
  */
 public interface UserClient {
 
+    /**
+     * streamAllUsers가 한 번에 조회하는 사용자 수
+     */
+    int STREAM_PAGE_SIZE = 500;
+
     /**
      * 특정 사용자 조회
      */
     @GetMapping("/api/users/{id}")
     User getUserById(@PathVariable("id") Long id);
 
+    /**
+     * 사용자가 실제로 있는지 확인하는 조회 (주문 생성 등)
+     * 대체 응답(FallbackUserClient의 CACHED/PARTIAL)을 쓰지 않고, 조회에 실패하면 예외를 그대로 던집니다.
+     * 기본 구현은 getUserById와 같습니다.
+     */
+    default User getExistingUserById(Long id) {
+        return getUserById(id);
+    }
+
+    /**
+     * 조건부 사용자 조회 (If-None-Match)
+     * etag가 서버의 현재 ETag와 같으면 바디 없이 304를, 다르면 200과 사용자 정보, 새 ETag를 돌려줍니다.
+     * 기본 구현은 ETag를 지원하지 않는 구현체용으로, 항상 getUserById 결과를 200으로 돌려줍니다.
+     *
+     * @param etag 이전 응답의 ETag (없으면 null)
+     */
+    default ResponseEntity<User> getUserByIdIfNoneMatch(Long id, String etag) {
+        return ResponseEntity.ok(getUserById(id));
+    }
+
     /**
      * 모든 사용자 조회
+     * 전체 목록을 한 번에 메모리에 올리므로, 사용자가 많으면 getUsersPage / streamAllUsers를 사용하세요.
      */
     @GetMapping("/api/users")
     Map<Long, User> getAllUsers();
 
+    /**
+     * 사용자 목록 페이지 조회 (ID 순)
+     *
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param limit 페이지 크기
+     */
+    @GetMapping("/api/users/page")
+    CursorPage<User> getUsersPage(@RequestParam(value = "after", required = false) Long after,
+                                  @RequestParam("limit") int limit);
+
+    /**
+     * 모든 사용자를 ID 순으로 지연 조회
+     * 기본 구현은 getUsersPage를 페이지 단위로 이어서 호출하며, 한 번에 한 페이지만 메모리에 유지합니다.
+     * 사용 후 닫아야 합니다 (try-with-resources).
+     */
+    default Stream<User> streamAllUsers() {
+        return UserStreams.paged(this, STREAM_PAGE_SIZE);
+    }
+
+    /**
+     * 여러 사용자 일괄 조회
+     * 존재하지 않는 ID는 결과에서 제외됩니다.
+     */
+    @PostMapping("/api/users/batch")
+    List<User> getUsersByIds(@RequestBody List<Long> ids);
+
     /**
      * 새 사용자 생성
      */
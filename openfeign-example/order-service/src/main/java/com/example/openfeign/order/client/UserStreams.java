@@ -0,0 +1,106 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.User;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.FeignException;
+import feign.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 전체 사용자 목록을 지연(lazy) 조회하는 Stream 생성 도우미
+ * 어느 방식이든 한 번에 한 페이지(또는 한 줄)만 메모리에 올립니다.
+ */
+final class UserStreams {
+
+    private static final ObjectReader USER_READER = new ObjectMapper().readerFor(User.class);
+
+    private UserStreams() {
+    }
+
+    /**
+     * getUsersPage를 커서로 이어서 호출하는 Stream (다음 페이지는 필요할 때 조회)
+     */
+    static Stream<User> paged(UserClient userClient, int pageSize) {
+        return StreamSupport.stream(new PageSpliterator(userClient, pageSize), false);
+    }
+
+    /**
+     * NDJSON 응답을 한 줄씩 읽는 Stream
+     * Stream을 닫으면 응답(연결)도 닫힙니다.
+     */
+    static Stream<User> ndjson(Response response, String configKey) {
+        if (response.status() / 100 != 2) {
+            FeignException error = FeignException.errorStatus(configKey, response);
+            response.close();
+            throw error;
+        }
+        try {
+            return ndjson(response.body().asInputStream(), response);
+        } catch (IOException e) {
+            response.close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * NDJSON 바디를 한 줄씩 읽는 Stream (전송 계층과 무관, Stream을 닫으면 response도 닫힘)
+     */
+    static Stream<User> ndjson(InputStream body, Closeable response) throws IOException {
+        MappingIterator<User> users = USER_READER.readValues(body);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(users, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> close(response));
+    }
+
+    private static void close(Closeable response) {
+        try {
+            response.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class PageSpliterator extends Spliterators.AbstractSpliterator<User> {
+
+        private final UserClient userClient;
+        private final int pageSize;
+        private Iterator<User> page = List.<User>of().iterator();
+        private Long cursor;
+        private boolean last;
+
+        PageSpliterator(UserClient userClient, int pageSize) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.userClient = userClient;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super User> action) {
+            while (!page.hasNext()) {
+                if (last) {
+                    return false;
+                }
+                CursorPage<User> next = userClient.getUsersPage(cursor, pageSize);
+                page = next.getItems().iterator();
+                cursor = next.getNextCursor();
+                last = cursor == null;
+            }
+            action.accept(page.next());
+            return true;
+        }
+    }
+}
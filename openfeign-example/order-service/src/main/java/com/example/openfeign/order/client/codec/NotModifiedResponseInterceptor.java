@@ -0,0 +1,41 @@
+package com.example.openfeign.order.client.codec;
+
+import feign.InvocationContext;
+import feign.Response;
+import feign.ResponseInterceptor;
+import feign.Util;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+
+/**
+ * 304 Not Modified 응답을 바디 없는 ResponseEntity로 돌려주는 Feign ResponseInterceptor
+ *
+ * Feign은 2xx가 아닌 응답을 ErrorDecoder로 넘겨 예외로 만들기 때문에,
+ * 조건부 조회(If-None-Match) 메서드의 304 응답도 예외가 됩니다.
+ * 반환 타입이 ResponseEntity인 메서드에 한해 304를 정상 응답으로 바꾸고, 나머지는 그대로 처리합니다.
+ */
+public class NotModifiedResponseInterceptor implements ResponseInterceptor {
+
+    @Override
+    public Object intercept(InvocationContext context, Chain chain) throws Exception {
+        Response response = context.response();
+        if (response.status() != HttpStatus.NOT_MODIFIED.value() || !isResponseEntity(context.returnType())) {
+            return chain.next(context);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().forEach((name, values) -> headers.put(name, new ArrayList<>(values)));
+        Util.ensureClosed(response.body());
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+    }
+
+    private static boolean isResponseEntity(Type type) {
+        Type rawType = type instanceof ParameterizedType parameterized ? parameterized.getRawType() : type;
+        return rawType == ResponseEntity.class;
+    }
+}
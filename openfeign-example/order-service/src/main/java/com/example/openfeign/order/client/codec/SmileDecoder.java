@@ -0,0 +1,44 @@
+package com.example.openfeign.order.client.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Smile(바이너리 JSON) 응답을 디코딩하는 Feign Decoder
+ * 서버가 Smile을 지원하지 않아 JSON으로 응답하면 JSON으로 디코딩합니다.
+ */
+public class SmileDecoder implements Decoder {
+
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper jsonMapper;
+
+    public SmileDecoder(ObjectMapper smileMapper, ObjectMapper jsonMapper) {
+        this.smileMapper = smileMapper;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        if (response.body() == null) {
+            return Util.emptyValueOf(type);
+        }
+
+        ObjectMapper mapper = isSmile(response) ? smileMapper : jsonMapper;
+        try (InputStream body = response.body().asInputStream()) {
+            return mapper.readValue(body, mapper.constructType(type));
+        }
+    }
+
+    private boolean isSmile(Response response) {
+        Collection<String> contentTypes = response.headers().get("Content-Type");
+        return contentTypes != null && contentTypes.stream()
+            .anyMatch(contentType -> contentType.startsWith(SmileEncoder.SMILE_MEDIA_TYPE));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.openfeign.order.client.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+
+import java.lang.reflect.Type;
+
+/**
+ * 요청 바디를 Smile(바이너리 JSON) 형식으로 인코딩하는 Feign Encoder
+ */
+public class SmileEncoder implements Encoder {
+
+    public static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
+
+    private final ObjectMapper smileMapper;
+
+    public SmileEncoder(ObjectMapper smileMapper) {
+        this.smileMapper = smileMapper;
+    }
+
+    @Override
+    public void encode(Object object, Type bodyType, RequestTemplate template) {
+        try {
+            template.removeHeader("Content-Type");
+            template.header("Content-Type", SMILE_MEDIA_TYPE);
+            template.body(smileMapper.writerFor(smileMapper.constructType(bodyType)).writeValueAsBytes(object), null);
+        } catch (JsonProcessingException e) {
+            throw new EncodeException("Failed to encode " + bodyType + " as Smile", e);
+        }
+    }
+}
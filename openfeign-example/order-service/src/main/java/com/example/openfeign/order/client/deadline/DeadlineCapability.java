@@ -0,0 +1,15 @@
+package com.example.openfeign.order.client.deadline;
+
+import feign.Capability;
+import feign.Client;
+
+/**
+ * Feign 빌더의 전송 Client를 DeadlineClient로 감싸는 Capability
+ */
+public class DeadlineCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return new DeadlineClient(client);
+    }
+}
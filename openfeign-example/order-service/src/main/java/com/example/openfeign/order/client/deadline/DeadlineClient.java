@@ -0,0 +1,65 @@
+package com.example.openfeign.order.client.deadline;
+
+import com.example.openfeign.common.Deadline;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 요청의 처리 기한(Deadline)을 User Service 호출에 반영하는 Feign Client
+ *
+ * - 연결/읽기 타임아웃을 설정값(FeignConfig)과 남은 시간 중 작은 값으로 줄임
+ * - 남은 시간을 X-Request-Timeout 헤더로 전달 (User Service가 이미 포기된 요청을 일찍 중단하도록)
+ * - 이미 기한이 지났으면 요청을 보내지 않고 DeadlineExceededException 발생
+ * - 줄인 타임아웃이 지나 실패하면 재시도 대상(RetryableException)이 아닌 DeadlineExceededException 발생
+ *   타임아웃을 줄이지 않았는데(남은 시간 >= 읽기 타임아웃) 실패했다면 User Service 지연이므로
+ *   서킷 브레이커와 동시성 한도에 반영되도록 표시합니다 (DeadlineExceededException.isUserServiceTimeout).
+ *
+ * 재시도마다 다시 호출되므로 재시도 요청에는 그만큼 줄어든 시간이 적용됩니다.
+ * 기한이 없는 호출(백그라운드 갱신, 복제본 동기화 등)은 그대로 전달합니다.
+ */
+public class DeadlineClient implements Client {
+
+    private final Client delegate;
+
+    public DeadlineClient(Client delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return delegate.execute(request, options);
+        }
+        long remaining = deadline.remainingMillis();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException(request.httpMethod() + " " + request.url());
+        }
+
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(Deadline.HEADER, List.of(Long.toString(remaining)));
+        Request limited = Request.create(request.httpMethod(), request.url(), headers,
+            request.body(), request.charset(), request.requestTemplate());
+        Request.Options limitedOptions = new Request.Options(
+            Math.min(options.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+            Math.min(options.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+            options.isFollowRedirects());
+        try {
+            return delegate.execute(limited, limitedOptions);
+        } catch (IOException e) {
+            if (deadline.isExpired()) {
+                throw new DeadlineExceededException(request.httpMethod() + " " + request.url(), e,
+                    remaining < options.readTimeoutMillis());
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.openfeign.order.client.deadline;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.IOException;
+
+/**
+ * 요청 처리 기한이 지나서 User Service 호출을 끝내지 못했을 때 발생하는 예외
+ * - 보내기 전에 이미 기한이 지난 경우 (wasSent() == false)
+ * - 보낸 뒤 타임아웃이 지났고 그때 기한도 지난 경우 (wasSent() == true, cause는 타임아웃 예외)
+ *   남은 시간이 설정된 읽기 타임아웃보다 짧아 타임아웃을 줄였다면 timeoutShortened == true
+ */
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class DeadlineExceededException extends RuntimeException {
+
+    private final boolean timeoutShortened;
+
+    public DeadlineExceededException(String call) {
+        super("Deadline exceeded before " + call);
+        this.timeoutShortened = false;
+    }
+
+    public DeadlineExceededException(String call, IOException cause, boolean timeoutShortened) {
+        super("Deadline exceeded during " + call, cause);
+        this.timeoutShortened = timeoutShortened;
+    }
+
+    /**
+     * User Service에 요청을 보냈는지 여부
+     */
+    public boolean wasSent() {
+        return getCause() != null;
+    }
+
+    /**
+     * User Service가 설정된 타임아웃 안에 응답하지 못한 실패인지 여부
+     * 보내지 않았거나 호출자의 기한 때문에 줄인 타임아웃이 지난 경우는 User Service가 느리다는 근거가 아니므로
+     * 서킷 브레이커와 동시성 한도에 반영하지 않습니다.
+     */
+    public boolean isUserServiceTimeout() {
+        return wasSent() && !timeoutShortened;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.openfeign.order.client.deadline;
+
+import com.example.openfeign.common.Deadline;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * 현재 요청의 처리 기한(Deadline)을 User Service 호출에 반영하는 RestClient 인터셉터
+ * DeadlineClient(Feign)와 같은 규칙을 따릅니다.
+ *
+ * - 남은 시간을 X-Request-Timeout 헤더로 전달
+ * - 이미 기한이 지났으면 요청을 보내지 않고 DeadlineExceededException 발생
+ * - 보낸 뒤 기한이 지나 실패하면 DeadlineExceededException 발생
+ *   남은 시간이 읽기 타임아웃보다 짧지 않았다면(타임아웃을 줄이지 않음) User Service 지연으로 표시
+ *
+ * 연결/응답 타임아웃은 요청을 만들 때 줄이므로 RestClientConfig에서 처리합니다.
+ */
+public class DeadlineRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final long readTimeoutMillis;
+
+    /**
+     * @param readTimeoutMillis 설정된 읽기 타임아웃 (RestClientConfig가 요청마다 이 값과 남은 시간 중 작은 값을 적용)
+     */
+    public DeadlineRequestInterceptor(long readTimeoutMillis) {
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+        throws IOException {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return execution.execute(request, body);
+        }
+        long remaining = deadline.remainingMillis();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException(request.getMethod() + " " + request.getURI());
+        }
+
+        request.getHeaders().set(Deadline.HEADER, Long.toString(remaining));
+        try {
+            return execution.execute(request, body);
+        } catch (IOException e) {
+            if (deadline.isExpired()) {
+                throw new DeadlineExceededException(request.getMethod() + " " + request.getURI(), e,
+                    remaining < readTimeoutMillis);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.openfeign.order.client.loadbalancer;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * 요청마다 UserServiceLoadBalancer가 고른 인스턴스로 보내는 Feign Client
+ * 요청 URL의 scheme/host/port(user.service.url)를 선택된 인스턴스 주소로 바꾼 뒤 실제 전송 Client에 넘깁니다.
+ *
+ * 연결 오류(IOException)와 502/503 응답은 인스턴스 실패로 기록합니다 (UserServiceLoadBalancer.isInstanceFailure).
+ * Feign Retryer의 재시도는 다시 choose()를 거치므로 다른 인스턴스로 갈 수 있습니다.
+ */
+public class LoadBalancingClient implements Client {
+
+    private final Client delegate;
+    private final UserServiceLoadBalancer loadBalancer;
+
+    public LoadBalancingClient(Client delegate, UserServiceLoadBalancer loadBalancer) {
+        this.delegate = delegate;
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        UserServiceInstance instance = loadBalancer.choose();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Response response = delegate.execute(rewrite(request, instance), options);
+            success = !UserServiceLoadBalancer.isInstanceFailure(response.status());
+            return response;
+        } finally {
+            loadBalancer.onComplete(instance, System.nanoTime() - start, success);
+        }
+    }
+
+    private static Request rewrite(Request request, UserServiceInstance instance) {
+        URI uri = URI.create(request.url());
+        StringBuilder url = new StringBuilder(instance.getUri()).append(uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            url.append('?').append(uri.getRawQuery());
+        }
+        return Request.create(request.httpMethod(), url.toString(), request.headers(),
+            request.body(), request.charset(), request.requestTemplate());
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.openfeign.order.client.loadbalancer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로드 밸런서가 관리하는 User Service 인스턴스 하나의 상태
+ *
+ * - outstanding: 응답을 기다리는 요청 수
+ * - latencyEwma: 응답 시간의 peak EWMA (느려지면 즉시 반영, 빨라지면 decay에 따라 천천히 반영)
+ * - 연속 실패 수, 제외(ejection) 상태, slow-start 진행 여부
+ *
+ * 값은 락 없이 갱신하므로 동시에 기록된 측정값 일부가 유실될 수 있지만, 부하 추정치로는 충분합니다.
+ * 제외/복귀는 UserServiceLoadBalancer가 락을 잡고 변경합니다.
+ */
+public class UserServiceInstance {
+
+    private static final double MIN_WEIGHT = 0.1;
+
+    /**
+     * 실패한 요청은 최소 이 응답 시간으로 기록 (빨리 실패하는 인스턴스로 요청이 몰리지 않도록)
+     */
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String uri;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private volatile double latencyEwmaNanos;
+    private volatile long lastRecordedAt = System.nanoTime();
+
+    private volatile boolean ejected;
+    private volatile long ejectedUntil;
+    private volatile boolean warmingUp;
+    private int ejections;
+
+    UserServiceInstance(String uri) {
+        this.uri = uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public double getLatencyEwmaMillis() {
+        return latencyEwmaNanos / 1_000_000.0;
+    }
+
+    /**
+     * 현재 제외 상태인지 (제외 시간이 지나면 false)
+     */
+    public boolean isEjected(long now) {
+        return ejected && now - ejectedUntil < 0;
+    }
+
+    /**
+     * 부하 점수: 낮을수록 먼저 선택됨
+     * (응답 시간 EWMA) x (처리 중인 요청 수 + 1) / (slow-start 가중치)
+     *
+     * EWMA는 마지막 측정 이후 지난 시간만큼 감쇠시켜 읽으므로,
+     * 한동안 선택되지 않은 인스턴스도 점차 다시 선택됩니다.
+     */
+    double load(long now, long slowStartNanos, double decayNanos) {
+        return (latencyNanos(now, decayNanos) + 1) * (outstanding.get() + 1) / weight(now, slowStartNanos);
+    }
+
+    /**
+     * 마지막 측정 이후 지난 시간만큼 감쇠시킨 응답 시간 EWMA
+     */
+    double latencyNanos(long now, double decayNanos) {
+        return latencyEwmaNanos * Math.exp(-Math.max(0, now - lastRecordedAt) / decayNanos);
+    }
+
+    /**
+     * 제외되었다가 복귀한 인스턴스는 slowStart 동안 가중치가 MIN_WEIGHT에서 1까지 선형으로 증가
+     */
+    double weight(long now, long slowStartNanos) {
+        if (!warmingUp) {
+            return 1.0;
+        }
+        long elapsed = now - ejectedUntil;
+        if (elapsed >= slowStartNanos) {
+            warmingUp = false;
+            return 1.0;
+        }
+        return Math.max(MIN_WEIGHT, (double) elapsed / slowStartNanos);
+    }
+
+    void onStart() {
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * 요청 완료 기록
+     *
+     * @return 연속 실패 수 (성공이면 0)
+     */
+    int onComplete(long latencyNanos, boolean success, long now, double decayNanos) {
+        outstanding.decrementAndGet();
+        if (success) {
+            recordLatency(latencyNanos, now, decayNanos);
+            consecutiveFailures.set(0);
+            return 0;
+        }
+        recordLatency(Math.max(latencyNanos, FAILURE_PENALTY_NANOS), now, decayNanos);
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    private void recordLatency(long latencyNanos, long now, double decayNanos) {
+        long elapsed = Math.max(0, now - lastRecordedAt);
+        lastRecordedAt = now;
+        double current = latencyEwmaNanos;
+        if (latencyNanos > current) {
+            latencyEwmaNanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-elapsed / decayNanos);
+            latencyEwmaNanos = current * weight + latencyNanos * (1 - weight);
+        }
+    }
+
+    /**
+     * 인스턴스를 제외하고 제외 시간을 돌려줌 (제외될 때마다 base의 배수로 늘어남)
+     *
+     * @param resumeLatencyNanos 복귀 시점의 응답 시간 EWMA (다른 인스턴스들의 평균)
+     */
+    long eject(long now, long baseEjectionNanos, long maxEjectionNanos, boolean slowStart, double resumeLatencyNanos) {
+        if (!warmingUp) {
+            ejections = 0;
+        }
+        ejections++;
+        long duration = Math.min(maxEjectionNanos, baseEjectionNanos * ejections);
+        ejectedUntil = now + duration;
+        ejected = true;
+        warmingUp = slowStart;
+        // 0에서 시작하면 복귀 직후 가장 빠른 인스턴스로 보여 요청이 몰리므로 평균에서 시작하고, 제외 중에는 감쇠하지 않음
+        latencyEwmaNanos = resumeLatencyNanos;
+        lastRecordedAt = ejectedUntil;
+        consecutiveFailures.set(0);
+        return duration;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.openfeign.order.client.loadbalancer;
+
+import com.example.openfeign.order.config.UserClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * User Service 인스턴스 목록에서 요청을 보낼 인스턴스를 고르는 클라이언트 측 로드 밸런서
+ *
+ * - Power of two choices: 임의의 두 인스턴스 중 부하 점수(EWMA 응답 시간 x 처리 중인 요청 수)가 낮은 쪽 선택
+ * - Outlier detection: 연속 실패가 임계치를 넘으면 일정 시간 제외 (동시에 maxEjectionPercent 이하만)
+ * - Slow-start: 제외되었다가 복귀한 인스턴스는 가중치를 점차 올려 한꺼번에 몰리지 않도록 함
+ *   (응답 시간 EWMA도 다른 인스턴스들의 평균에서 다시 시작)
+ * - 모든 인스턴스가 제외되면 제외 상태를 무시하고 전체에서 선택
+ *
+ * choose()로 고른 인스턴스는 요청이 끝나면 반드시 onComplete()로 결과를 알려야 합니다.
+ *
+ * 메트릭: user.client.lb.requests{instance,result=success|failure}, user.client.lb.ejections{instance},
+ *        user.client.lb.outstanding{instance}, user.client.lb.latency{instance}, user.client.lb.ejected{instance}
+ */
+@Slf4j
+public class UserServiceLoadBalancer {
+
+    private final List<UserServiceInstance> instances;
+    private final double decayNanos;
+    private final long slowStartNanos;
+    private final int consecutiveFailures;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjectionPercent;
+    private final ReentrantLock ejectionLock = new ReentrantLock();
+    private final Map<UserServiceInstance, InstanceMeters> meters = new HashMap<>();
+
+    public UserServiceLoadBalancer(UserClientProperties.LoadBalancer properties, MeterRegistry meterRegistry) {
+        if (properties.getInstances().isEmpty()) {
+            throw new IllegalArgumentException("user.client.load-balancer.instances must not be empty");
+        }
+        UserClientProperties.LoadBalancer.OutlierDetection outlierDetection = properties.getOutlierDetection();
+        this.instances = properties.getInstances().stream().map(UserServiceInstance::new).toList();
+        this.decayNanos = properties.getDecay().toNanos();
+        this.slowStartNanos = properties.getSlowStart().toNanos();
+        this.consecutiveFailures = outlierDetection.getConsecutiveFailures();
+        this.baseEjectionNanos = outlierDetection.getBaseEjectionTime().toNanos();
+        this.maxEjectionNanos = outlierDetection.getMaxEjectionTime().toNanos();
+        this.maxEjectionPercent = outlierDetection.getMaxEjectionPercent();
+
+        for (UserServiceInstance instance : instances) {
+            meters.put(instance, new InstanceMeters(
+                requestCounter(meterRegistry, instance, "success"),
+                requestCounter(meterRegistry, instance, "failure"),
+                Counter.builder("user.client.lb.ejections")
+                    .description("Outlier ejections per user-service instance")
+                    .tag("instance", instance.getUri())
+                    .register(meterRegistry)));
+            Gauge.builder("user.client.lb.outstanding", instance, UserServiceInstance::getOutstanding)
+                .description("In-flight requests per user-service instance")
+                .tag("instance", instance.getUri())
+                .register(meterRegistry);
+            Gauge.builder("user.client.lb.latency", instance, UserServiceInstance::getLatencyEwmaMillis)
+                .description("Peak EWMA latency per user-service instance in milliseconds")
+                .tag("instance", instance.getUri())
+                .register(meterRegistry);
+            Gauge.builder("user.client.lb.ejected", instance, i -> i.isEjected(System.nanoTime()) ? 1 : 0)
+                .description("Whether the user-service instance is currently ejected")
+                .tag("instance", instance.getUri())
+                .register(meterRegistry);
+        }
+    }
+
+    public List<UserServiceInstance> getInstances() {
+        return instances;
+    }
+
+    /**
+     * 요청을 보낼 인스턴스 선택 (처리 중인 요청 수를 1 증가시킴)
+     */
+    public UserServiceInstance choose() {
+        long now = System.nanoTime();
+        List<UserServiceInstance> candidates = available(now);
+
+        UserServiceInstance chosen;
+        if (candidates.size() == 1) {
+            chosen = candidates.get(0);
+        } else {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(candidates.size());
+            int second = random.nextInt(candidates.size() - 1);
+            if (second >= first) {
+                second++;
+            }
+            UserServiceInstance a = candidates.get(first);
+            UserServiceInstance b = candidates.get(second);
+            chosen = a.load(now, slowStartNanos, decayNanos) <= b.load(now, slowStartNanos, decayNanos) ? a : b;
+        }
+        chosen.onStart();
+        return chosen;
+    }
+
+    /**
+     * 인스턴스 실패로 볼 응답 상태 코드인지 (502/503: 인스턴스가 요청을 처리할 수 없음)
+     * 500 등 애플리케이션 오류와 504(호출자의 처리 기한 초과)는 요청 내용이나 호출자 때문일 수 있으므로
+     * 같은 요청이 반복되어도 정상 인스턴스를 제외하지 않도록 실패로 세지 않습니다.
+     */
+    public static boolean isInstanceFailure(int status) {
+        return status == 502 || status == 503;
+    }
+
+    /**
+     * 요청 결과 기록
+     *
+     * @param success 연결 오류나 인스턴스 실패 응답(isInstanceFailure)이 아니면 true
+     */
+    public void onComplete(UserServiceInstance instance, long latencyNanos, boolean success) {
+        long now = System.nanoTime();
+        int failures = instance.onComplete(latencyNanos, success, now, decayNanos);
+        InstanceMeters instanceMeters = meters.get(instance);
+        (success ? instanceMeters.success() : instanceMeters.failure()).increment();
+        if (failures >= consecutiveFailures) {
+            tryEject(instance, now);
+        }
+    }
+
+    private List<UserServiceInstance> available(long now) {
+        List<UserServiceInstance> available = new ArrayList<>(instances.size());
+        for (UserServiceInstance instance : instances) {
+            if (!instance.isEjected(now)) {
+                available.add(instance);
+            }
+        }
+        return available.isEmpty() ? instances : available;
+    }
+
+    private void tryEject(UserServiceInstance instance, long now) {
+        ejectionLock.lock();
+        try {
+            if (instance.isEjected(now)) {
+                return;
+            }
+            long ejected = instances.stream().filter(i -> i.isEjected(now)).count();
+            if ((ejected + 1) * 100 > (long) maxEjectionPercent * instances.size()) {
+                return;
+            }
+            long duration = instance.eject(now, baseEjectionNanos, maxEjectionNanos, slowStartNanos > 0,
+                poolLatencyNanos(instance, now));
+            meters.get(instance).ejections().increment();
+            log.warn("Ejected user-service instance {} for {}ms", instance.getUri(),
+                TimeUnit.NANOSECONDS.toMillis(duration));
+        } finally {
+            ejectionLock.unlock();
+        }
+    }
+
+    /**
+     * 제외하려는 인스턴스를 뺀 나머지 사용 중인 인스턴스들의 평균 응답 시간 EWMA (없으면 그 인스턴스의 값)
+     */
+    private double poolLatencyNanos(UserServiceInstance excluded, long now) {
+        double sum = 0;
+        int count = 0;
+        for (UserServiceInstance instance : instances) {
+            if (instance != excluded && !instance.isEjected(now)) {
+                sum += instance.latencyNanos(now, decayNanos);
+                count++;
+            }
+        }
+        return count > 0 ? sum / count : excluded.latencyNanos(now, decayNanos);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, UserServiceInstance instance, String result) {
+        return Counter.builder("user.client.lb.requests")
+            .description("Requests per user-service instance by result")
+            .tag("instance", instance.getUri())
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private record InstanceMeters(Counter success, Counter failure, Counter ejections) {
+    }
+}
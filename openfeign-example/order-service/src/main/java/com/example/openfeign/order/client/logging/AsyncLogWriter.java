@@ -0,0 +1,80 @@
+package com.example.openfeign.order.client.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * 로그 메시지를 별도 스레드에서 만들고 기록하는 비동기 로그 출력기
+ * 요청 스레드는 큐에 넣기만 하고, 문자열 포맷과 appender 출력은 writer 스레드가 합니다.
+ *
+ * 큐는 크기가 제한되어 있으며, 가득 차면 요청 스레드를 막지 않고 로그를 버립니다.
+ *
+ * 메트릭: user.client.log.queue (대기 중인 로그 수), user.client.log.dropped (버려진 로그 수)
+ */
+public class AsyncLogWriter implements AutoCloseable {
+
+    private final BlockingQueue<Entry> queue;
+    private final Counter dropped;
+    private final Thread writer;
+
+    public AsyncLogWriter(int capacity, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.dropped = Counter.builder("user.client.log.dropped")
+            .description("Feign log entries dropped because the queue was full")
+            .register(meterRegistry);
+        Gauge.builder("user.client.log.queue", queue, BlockingQueue::size)
+            .description("Feign log entries waiting to be written")
+            .register(meterRegistry);
+
+        this.writer = new Thread(this::drain, "feign-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 로그를 큐에 넣음 (message는 writer 스레드에서 호출됨)
+     */
+    public void submit(Logger logger, Supplier<String> message) {
+        if (!queue.offer(new Entry(logger, message))) {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                write(queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시 남은 로그 기록
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            write(entry);
+        }
+    }
+
+    private static void write(Entry entry) {
+        try {
+            entry.logger().debug(entry.message().get());
+        } catch (RuntimeException e) {
+            entry.logger().warn("Failed to write Feign log entry", e);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        writer.interrupt();
+        writer.join(1000);
+    }
+
+    private record Entry(Logger logger, Supplier<String> message) {
+    }
+}
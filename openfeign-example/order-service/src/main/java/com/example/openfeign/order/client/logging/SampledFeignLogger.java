@@ -0,0 +1,156 @@
+package com.example.openfeign.order.client.logging;
+
+import com.example.openfeign.order.config.UserClientProperties;
+import feign.Logger;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 일부 요청만 전체(FULL) 로그를 남기는 Feign 로거
+ *
+ * 다음 중 하나에 해당하면 요청/응답의 헤더와 바디까지 기록하고, 나머지는 한 줄 요약(BASIC)만 기록합니다.
+ * - error: 4xx/5xx 응답 또는 I/O 오류
+ * - slow: 응답 시간이 slowThreshold 이상
+ * - sampled: sampleRate 확률로 선택된 요청
+ *
+ * 요청은 응답과 함께 기록하므로(response.request()) 요청 시점에는 아무것도 하지 않으며,
+ * 바디는 전체 로그를 남길 때만 버퍼링합니다. 포맷과 출력은 AsyncLogWriter 스레드에서 처리합니다.
+ *
+ * Feign 로깅 레벨이 NONE이면 호출되지 않으므로 FeignConfig의 레벨(FULL)은 그대로 둡니다.
+ * 기존 Slf4jLogger와 같이 DEBUG 레벨이 켜져 있을 때만 기록합니다.
+ */
+public class SampledFeignLogger extends Logger {
+
+    private final org.slf4j.Logger logger;
+    private final AsyncLogWriter writer;
+    private final double sampleRate;
+    private final long slowThresholdMillis;
+
+    public SampledFeignLogger(Class<?> type, AsyncLogWriter writer, UserClientProperties.Logging properties) {
+        this.logger = LoggerFactory.getLogger(type);
+        this.writer = writer;
+        this.sampleRate = properties.getSampleRate();
+        this.slowThresholdMillis = properties.getSlowThreshold().toMillis();
+    }
+
+    @Override
+    protected void log(String configKey, String format, Object... args) {
+        if (logger.isDebugEnabled()) {
+            writer.submit(logger, () -> String.format(methodTag(configKey) + format, args));
+        }
+    }
+
+    @Override
+    protected void logRequest(String configKey, Level logLevel, Request request) {
+        // 응답(또는 오류)과 함께 기록
+    }
+
+    @Override
+    protected Response logAndRebufferResponse(String configKey, Level logLevel, Response response, long elapsedTime)
+        throws IOException {
+        if (!logger.isDebugEnabled()) {
+            return response;
+        }
+
+        int status = response.status();
+        Request request = response.request();
+        String reason = fullLogReason(status, elapsedTime);
+        if (reason == null) {
+            writer.submit(logger, () -> methodTag(configKey) + request.httpMethod() + " " + request.url()
+                + " <--- " + status + " (" + elapsedTime + "ms)");
+            return response;
+        }
+
+        // 스트리밍 응답(NDJSON)은 버퍼링하지 않고 헤더만 기록
+        byte[] body = null;
+        if (response.body() != null && status != 204 && status != 205 && !isStreaming(response)) {
+            body = Util.toByteArray(response.body().asInputStream());
+            Util.ensureClosed(response.body());
+            response = response.toBuilder().body(body).build();
+        }
+        Response buffered = response;
+        byte[] responseBody = body;
+        writer.submit(logger, () -> full(configKey, reason, request, buffered, responseBody, elapsedTime));
+        return buffered;
+    }
+
+    @Override
+    protected IOException logIOException(String configKey, Level logLevel, IOException ioe, long elapsedTime) {
+        if (logger.isDebugEnabled()) {
+            writer.submit(logger, () -> methodTag(configKey) + "[error] <--- ERROR " + ioe.getClass().getSimpleName()
+                + ": " + ioe.getMessage() + " (" + elapsedTime + "ms)");
+        }
+        return ioe;
+    }
+
+    static boolean isStreaming(Response response) {
+        Collection<String> contentType = response.headers().get("Content-Type");
+        return contentType != null && contentType.stream().anyMatch(value -> value.contains("ndjson"));
+    }
+
+    /**
+     * 전체 로그를 남길 이유 (없으면 null)
+     */
+    private String fullLogReason(int status, long elapsedTime) {
+        if (status >= 400) {
+            return "error";
+        }
+        if (elapsedTime >= slowThresholdMillis) {
+            return "slow";
+        }
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return "sampled";
+        }
+        return null;
+    }
+
+    private static String full(String configKey, String reason, Request request, Response response,
+                               byte[] responseBody, long elapsedTime) {
+        String tag = methodTag(configKey);
+        StringBuilder message = new StringBuilder(tag).append('[').append(reason).append("] ---> ")
+            .append(request.httpMethod()).append(' ').append(request.url()).append(' ')
+            .append(resolveProtocolVersion(request.protocolVersion()));
+        appendHeaders(message, tag, request.headers());
+        byte[] requestBody = request.body();
+        if (requestBody != null && requestBody.length > 0) {
+            Charset charset = request.charset() != null ? request.charset() : UTF_8;
+            message.append('\n').append(tag).append('\n').append(tag)
+                .append(Util.decodeOrDefault(requestBody, charset, "Binary data"));
+        }
+        message.append('\n').append(tag).append("---> END HTTP (")
+            .append(requestBody != null ? requestBody.length : 0).append("-byte body)");
+
+        message.append('\n').append(tag).append("<--- ")
+            .append(resolveProtocolVersion(response.protocolVersion())).append(' ').append(response.status());
+        if (response.reason() != null && !response.reason().isBlank()) {
+            message.append(' ').append(response.reason());
+        }
+        message.append(" (").append(elapsedTime).append("ms)");
+        appendHeaders(message, tag, response.headers());
+        if (responseBody != null && responseBody.length > 0) {
+            message.append('\n').append(tag).append('\n').append(tag)
+                .append(Util.decodeOrDefault(responseBody, UTF_8, "Binary data"));
+        }
+        message.append('\n').append(tag).append("<--- END HTTP (")
+            .append(responseBody != null ? responseBody.length : 0).append("-byte body)");
+        return message.toString();
+    }
+
+    private static void appendHeaders(StringBuilder message, String tag, Map<String, Collection<String>> headers) {
+        for (Map.Entry<String, Collection<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                message.append('\n').append(tag).append(header.getKey()).append(": ").append(value);
+            }
+        }
+    }
+}
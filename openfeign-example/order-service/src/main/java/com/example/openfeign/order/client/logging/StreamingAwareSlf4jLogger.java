@@ -0,0 +1,38 @@
+package com.example.openfeign.order.client.logging;
+
+import feign.Response;
+import feign.slf4j.Slf4jLogger;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Feign 기본 로거(Slf4jLogger)와 같지만 스트리밍 응답(NDJSON)의 바디는 기록하지 않는 로거
+ *
+ * Feign은 HEADERS 이상 레벨에서 바디 길이를 로그에 남기려고 응답 바디 전체를 메모리에 모으므로,
+ * streamAllUsers의 한 페이지 메모리 한도가 깨집니다.
+ * 스트리밍 응답은 상태 줄(BASIC)과 헤더만 직접 기록하고 바디는 그대로 흘려보냅니다.
+ */
+public class StreamingAwareSlf4jLogger extends Slf4jLogger {
+
+    public StreamingAwareSlf4jLogger(Class<?> type) {
+        super(type);
+    }
+
+    @Override
+    protected Response logAndRebufferResponse(String configKey, Level logLevel, Response response, long elapsedTime)
+        throws IOException {
+        if (logLevel.ordinal() < Level.HEADERS.ordinal() || !SampledFeignLogger.isStreaming(response)) {
+            return super.logAndRebufferResponse(configKey, logLevel, response, elapsedTime);
+        }
+        Response result = super.logAndRebufferResponse(configKey, Level.BASIC, response, elapsedTime);
+        for (Map.Entry<String, Collection<String>> header : response.headers().entrySet()) {
+            for (String value : header.getValue()) {
+                log(configKey, "%s: %s", header.getKey(), value);
+            }
+        }
+        log(configKey, "<--- END HTTP (streaming body not logged)");
+        return result;
+    }
+}
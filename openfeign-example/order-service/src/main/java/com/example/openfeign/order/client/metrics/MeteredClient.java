@@ -0,0 +1,122 @@
+package com.example.openfeign.order.client.metrics;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시도(attempt)마다 응답 시간, 상태 코드, 요청/응답 바디 크기를 기록하는 Feign Client
+ *
+ * 응답 시간은 응답 헤더를 받을 때까지입니다 (바디 디코딩 제외).
+ * 응답 바디 크기는 Content-Length가 있으면 바로 기록하고,
+ * 없으면(chunked) 바디를 읽는 만큼 세었다가 닫힐 때 기록합니다.
+ */
+public class MeteredClient implements Client {
+
+    private final Client delegate;
+    private final UserClientMetrics metrics;
+
+    public MeteredClient(Client delegate, UserClientMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        UserClientMetrics.MethodMeters meters = metrics.forRequest(request);
+        if (request.body() != null && request.body().length > 0) {
+            meters.requestSize.record(request.body().length);
+        }
+
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = delegate.execute(request, options);
+        } catch (IOException | RuntimeException e) {
+            meters.ioErrorTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        meters.timer(response.status()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        Response.Body body = response.body();
+        if (body == null) {
+            return response;
+        }
+        if (body.length() != null) {
+            meters.responseSize.record(body.length());
+            return response;
+        }
+        return response.toBuilder().body(new CountingBody(body, meters)).build();
+    }
+
+    /**
+     * 읽은 바이트 수를 세었다가 닫힐 때 기록하는 응답 바디
+     */
+    private static class CountingBody implements Response.Body {
+
+        private final Response.Body delegate;
+        private final UserClientMetrics.MethodMeters meters;
+        private long count;
+        private boolean recorded;
+
+        CountingBody(Response.Body delegate, UserClientMetrics.MethodMeters meters) {
+            this.delegate = delegate;
+            this.meters = meters;
+        }
+
+        @Override
+        public Integer length() {
+            return null;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return delegate.isRepeatable();
+        }
+
+        @Override
+        public InputStream asInputStream() throws IOException {
+            return new FilterInputStream(delegate.asInputStream()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) {
+                        count++;
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = super.read(buffer, offset, length);
+                    if (n > 0) {
+                        count += n;
+                    }
+                    return n;
+                }
+            };
+        }
+
+        @Override
+        public Reader asReader(Charset charset) throws IOException {
+            return new InputStreamReader(asInputStream(), charset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!recorded) {
+                recorded = true;
+                meters.responseSize.record(count);
+            }
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.openfeign.order.client.metrics;
+
+import feign.RetryableException;
+import feign.Retryer;
+
+/**
+ * 재시도할 때마다 메서드별 재시도 횟수를 세는 Retryer
+ * 재시도 여부와 대기 시간은 원래 Retryer(FeignConfig)가 결정합니다.
+ */
+public class MeteredRetryer implements Retryer {
+
+    private final Retryer delegate;
+    private final UserClientMetrics metrics;
+
+    public MeteredRetryer(Retryer delegate, UserClientMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        delegate.continueOrPropagate(e);
+        metrics.forRequest(e.request()).retries.increment();
+    }
+
+    @Override
+    public Retryer clone() {
+        return new MeteredRetryer(delegate.clone(), metrics);
+    }
+}
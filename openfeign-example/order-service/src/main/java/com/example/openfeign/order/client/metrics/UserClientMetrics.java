@@ -0,0 +1,123 @@
+package com.example.openfeign.order.client.metrics;
+
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * UserClient(Feign) 메서드별 메트릭 저장소
+ * 메서드/상태 코드 조합마다 미터를 한 번만 등록해 두고 재사용하므로,
+ * 요청마다 태그 배열이나 Meter.Id를 만들지 않습니다.
+ *
+ * 메트릭:
+ * - user.client.requests{method,status,outcome}: 시도(attempt)별 응답 시간 (percentile 히스토그램)
+ * - user.client.retries{method}: 재시도 횟수
+ * - user.client.request.size{method}, user.client.response.size{method}: 요청/응답 바디 크기 (bytes)
+ */
+public class UserClientMetrics {
+
+    static final String IO_ERROR = "IO_ERROR";
+
+    private static final String UNKNOWN_METHOD = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, MethodMeters> methods = new ConcurrentHashMap<>();
+
+    public UserClientMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    MethodMeters forRequest(Request request) {
+        RequestTemplate template = request == null ? null : request.requestTemplate();
+        MethodMetadata metadata = template == null ? null : template.methodMetadata();
+        if (metadata == null || metadata.method() == null) {
+            return forMethod(UNKNOWN_METHOD, UNKNOWN_METHOD);
+        }
+        return forMethod(metadata.configKey(), metadata.method().getName());
+    }
+
+    private MethodMeters forMethod(String configKey, String method) {
+        MethodMeters meters = methods.get(configKey);
+        if (meters == null) {
+            meters = methods.computeIfAbsent(configKey, key -> new MethodMeters(method));
+        }
+        return meters;
+    }
+
+    /**
+     * 메서드 하나의 미터 모음
+     */
+    final class MethodMeters {
+
+        private static final int MAX_STATUS = 600;
+
+        private final String method;
+        private final AtomicReferenceArray<Timer> timersByStatus = new AtomicReferenceArray<>(MAX_STATUS);
+        private volatile Timer ioErrorTimer;
+
+        final Counter retries;
+        final DistributionSummary requestSize;
+        final DistributionSummary responseSize;
+
+        private MethodMeters(String method) {
+            this.method = method;
+            this.retries = Counter.builder("user.client.retries")
+                .description("Retries of UserClient calls")
+                .tag("method", method)
+                .register(meterRegistry);
+            this.requestSize = sizeSummary("user.client.request.size", "Request body size of UserClient calls");
+            this.responseSize = sizeSummary("user.client.response.size", "Response body size of UserClient calls");
+        }
+
+        Timer timer(int status) {
+            if (status < 0 || status >= MAX_STATUS) {
+                return timer(String.valueOf(status), Outcome.forStatus(status).name());
+            }
+            Timer timer = timersByStatus.get(status);
+            if (timer == null) {
+                timer = timer(String.valueOf(status), Outcome.forStatus(status).name());
+                timersByStatus.set(status, timer);
+            }
+            return timer;
+        }
+
+        Timer ioErrorTimer() {
+            Timer timer = ioErrorTimer;
+            if (timer == null) {
+                timer = timer(IO_ERROR, Outcome.UNKNOWN.name());
+                ioErrorTimer = timer;
+            }
+            return timer;
+        }
+
+        private Timer timer(String status, String outcome) {
+            return Timer.builder("user.client.requests")
+                .description("UserClient call attempts")
+                .tag("method", method)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+        }
+
+        private DistributionSummary sizeSummary(String name, String description) {
+            return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit("bytes")
+                .tag("method", method)
+                .register(meterRegistry);
+        }
+    }
+}
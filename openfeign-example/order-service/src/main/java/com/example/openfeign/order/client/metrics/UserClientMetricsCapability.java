@@ -0,0 +1,28 @@
+package com.example.openfeign.order.client.metrics;
+
+import feign.Capability;
+import feign.Client;
+import feign.Retryer;
+
+/**
+ * Feign 빌더에 메트릭 수집을 추가하는 Capability
+ * 전송 Client(로드 밸런서 포함)와 Retryer를 감쌉니다.
+ */
+public class UserClientMetricsCapability implements Capability {
+
+    private final UserClientMetrics metrics;
+
+    public UserClientMetricsCapability(UserClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return new MeteredClient(client, metrics);
+    }
+
+    @Override
+    public Retryer enrich(Retryer retryer) {
+        return new MeteredRetryer(retryer, metrics);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.openfeign.order.client.replica;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * User Service 사용자 전체의 메모리 복제본
+ *
+ * 전체 목록(load)으로 시작해서 변경 이벤트(apply)를 버전 순서대로 적용합니다.
+ * - version: 마지막으로 적용한 전역 버전. 다음 이벤트는 version + 1이어야 하며,
+ *   그보다 크면 중간 이벤트를 놓친 것이므로 적용하지 않고 GAP을 돌려줍니다 (호출한 쪽에서 다시 동기화).
+ * - 사용자별 버전: 이벤트의 버전이 복제본에 있는 사용자의 버전보다 크지 않으면 무시합니다.
+ *   전체 목록과 그 이후 이벤트가 겹치는 구간(목록에 이미 반영된 변경)을 중복 적용하지 않기 위함입니다.
+ *
+ * 쓰기(load, apply)는 한 스레드(UserReplicaSynchronizer)에서만 하고, 조회는 여러 스레드에서 락 없이 합니다.
+ * 적용된(APPLIED) 이벤트는 addListener로 등록한 리스너에 전달합니다 (동기화 스레드에서 호출되므로 빨리 끝나야 함).
+ * 전체 목록으로 다시 채울 때(load)는 이벤트가 없으므로 리스너를 호출하지 않습니다.
+ *
+ * 메트릭: user.client.replica.size, user.client.replica.version,
+ *        user.client.replica.events{result=applied|stale|duplicate|gap}
+ */
+public class UserReplica {
+
+    public enum Result { APPLIED, STALE, DUPLICATE, GAP }
+
+    private volatile Map<Long, User> users = new ConcurrentHashMap<>();
+    private volatile long version;
+    private volatile boolean ready;
+
+    private final List<Consumer<UserChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    private final Counter applied;
+    private final Counter stale;
+    private final Counter duplicate;
+    private final Counter gap;
+
+    public UserReplica(MeterRegistry meterRegistry) {
+        this.applied = eventCounter(meterRegistry, "applied");
+        this.stale = eventCounter(meterRegistry, "stale");
+        this.duplicate = eventCounter(meterRegistry, "duplicate");
+        this.gap = eventCounter(meterRegistry, "gap");
+
+        Gauge.builder("user.client.replica.size", this, replica -> replica.users.size())
+            .description("Users held by the replica")
+            .register(meterRegistry);
+        Gauge.builder("user.client.replica.version", this, UserReplica::version)
+            .description("Last user change version applied to the replica")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 복제본 사용자 (없으면 null)
+     */
+    public User get(long id) {
+        return users.get(id);
+    }
+
+    /**
+     * 전체 목록을 한 번 이상 받았는지 여부 (그 전에는 조회를 User Service로 넘겨야 함)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    /**
+     * 적용된 변경 이벤트를 받을 리스너 등록
+     */
+    public void addListener(Consumer<UserChangeEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 전체 목록으로 교체
+     * snapshot은 asOfVersion 시점 이후에 읽은 것이어야 하며, asOfVersion 이후의 변경은 이어서 apply로 적용합니다.
+     * (목록에 이미 반영된 변경은 사용자별 버전 비교로 걸러짐)
+     */
+    void load(Stream<User> snapshot, long asOfVersion) {
+        Map<Long, User> loaded = new ConcurrentHashMap<>();
+        snapshot.forEach(user -> loaded.put(user.getId(), user));
+        users = loaded;
+        version = asOfVersion;
+        ready = true;
+    }
+
+    Result apply(UserChangeEvent event) {
+        if (event.getVersion() <= version) {
+            duplicate.increment();
+            return Result.DUPLICATE;
+        }
+        if (event.getVersion() != version + 1) {
+            gap.increment();
+            return Result.GAP;
+        }
+        version = event.getVersion();
+
+        User current = users.get(event.getUserId());
+        if (current != null && current.getVersion() != null && current.getVersion() >= event.getVersion()) {
+            stale.increment();
+            return Result.STALE;
+        }
+        if (event.getType() == UserChangeEvent.Type.DELETED) {
+            users.remove(event.getUserId());
+        } else {
+            users.put(event.getUserId(), event.getUser());
+        }
+        applied.increment();
+        for (Consumer<UserChangeEvent> listener : listeners) {
+            listener.accept(event);
+        }
+        return Result.APPLIED;
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.client.replica.events")
+            .description("User change events received by the replica")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.openfeign.order.client.replica;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeEvent;
+import com.example.openfeign.common.UserChangeTransport;
+import com.example.openfeign.common.UserChanges;
+import com.example.openfeign.order.client.RestUserClient;
+import com.example.openfeign.order.config.UserClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * UserReplica를 User Service와 맞춰 두는 동기화기
+ *
+ * 1. 시작: 현재 최신 버전을 확인한 뒤 전체 목록(/api/users/stream)을 받아 복제본을 채움
+ * 2. 이후 변경 이벤트를 받아 적용
+ *    - POLL: /api/users/changes?after={version} 롱 폴링 (새 이벤트가 생기면 바로 응답)
+ *    - PUSH: UserChangeTransport 구독. 버전이 건너뛰면(GAP) 놓친 구간을 /api/users/changes로 다시 받고,
+ *      마지막 이벤트가 빠진 경우에 대비해 pollWait마다 한 번씩 같은 방식으로 확인
+ * 3. User Service가 이미 버린 구간을 요청했거나(오래 끊겼던 경우) User Service가 재시작되어 버전이 줄었으면
+ *    응답이 truncated이므로 전체 목록으로 다시 채움
+ *
+ * User Service 호출은 데코레이터(서킷 브레이커, 캐시 등)를 거치지 않는 RestUserClient로 직접 합니다.
+ * 락 안에서 User Service를 호출하므로 synchronized 대신 ReentrantLock을 사용합니다 (가상 스레드의 캐리어 점유 방지).
+ * 실패하면 retryBackoff만큼 쉬었다가 다시 시도하며, 그동안 복제본은 마지막 상태를 유지합니다.
+ *
+ * 메트릭: user.client.replica.resyncs{reason=startup|truncated}
+ */
+@Slf4j
+public class UserReplicaSynchronizer implements AutoCloseable {
+
+    public enum Mode { POLL, PUSH }
+
+    private final UserReplica replica;
+    private final RestUserClient source;
+    private final UserChangeTransport transport;
+    private final UserClientProperties.Replica properties;
+    private final Counter startupResyncs;
+    private final Counter truncatedResyncs;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean running;
+    private Thread worker;
+    private AutoCloseable subscription;
+
+    /**
+     * @param transport PUSH 모드에서 구독할 전송 수단 (POLL 모드면 null)
+     */
+    public UserReplicaSynchronizer(UserReplica replica,
+                                   RestUserClient source,
+                                   UserChangeTransport transport,
+                                   UserClientProperties.Replica properties,
+                                   MeterRegistry meterRegistry) {
+        if (properties.getMode() == Mode.PUSH && transport == null) {
+            throw new IllegalStateException("user.client.replica.mode=push requires a UserChangeTransport bean");
+        }
+        this.replica = replica;
+        this.source = source;
+        this.transport = transport;
+        this.properties = properties;
+        this.startupResyncs = resyncCounter(meterRegistry, "startup");
+        this.truncatedResyncs = resyncCounter(meterRegistry, "truncated");
+    }
+
+    public void start() {
+        running = true;
+        if (properties.getMode() == Mode.PUSH) {
+            subscription = transport.subscribe(this::onEvent);
+        }
+        worker = Thread.ofVirtual().name("user-replica-sync").start(this::run);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (!replica.isReady()) {
+                    resync(startupResyncs);
+                } else if (properties.getMode() == Mode.POLL) {
+                    poll(properties.getPollWait().toMillis());
+                } else {
+                    Thread.sleep(properties.getPollWait().toMillis());
+                    catchUp();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("User replica sync failed (version {}): {}", replica.version(), e.toString());
+                try {
+                    Thread.sleep(properties.getRetryBackoff().toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * PUSH 모드 이벤트 수신
+     * 시작 동기화 전의 이벤트는 버림 (전체 목록과 그 이후 변경으로 대신 채워짐)
+     */
+    private void onEvent(UserChangeEvent event) {
+        lock.lock();
+        try {
+            if (!replica.isReady() || replica.apply(event) != UserReplica.Result.GAP) {
+                return;
+            }
+            log.debug("User change gap: expected version {}, got {}", replica.version() + 1, event.getVersion());
+            try {
+                catchUp();
+            } catch (RuntimeException e) {
+                // 다음 이벤트나 주기적 확인에서 다시 시도
+                log.warn("User replica catch-up failed (version {}): {}", replica.version(), e.toString());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 버전 이후의 이벤트를 기다리지 않고 끝까지 받아 적용
+     */
+    private void catchUp() {
+        while (poll(0)) {
+            // 남은 이벤트가 없을 때까지 반복
+        }
+    }
+
+    /**
+     * @return 아직 받지 않은 이벤트가 남아 있으면 true
+     */
+    private boolean poll(long waitMillis) {
+        UserChanges changes = source.getUserChanges(replica.version(), properties.getBatchSize(), waitMillis);
+        lock.lock();
+        try {
+            if (changes.isTruncated()) {
+                resync(truncatedResyncs);
+                return false;
+            }
+            for (UserChangeEvent event : changes.getEvents()) {
+                if (replica.apply(event) == UserReplica.Result.GAP) {
+                    // PUSH 이벤트가 먼저 적용한 경우 등 (다음 폴링에서 현재 버전부터 다시 받음)
+                    return true;
+                }
+            }
+            return replica.version() < changes.getLatestVersion();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void resync(Counter reason) {
+        lock.lock();
+        try {
+            long asOfVersion = source.getUserChanges(0, 1, 0).getLatestVersion();
+            try (Stream<User> users = source.streamAllUsers()) {
+                replica.load(users, asOfVersion);
+            }
+            reason.increment();
+            log.info("User replica loaded {} users as of version {}", replica.size(), asOfVersion);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        running = false;
+        if (subscription != null) {
+            subscription.close();
+        }
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(1000);
+        }
+    }
+
+    private static Counter resyncCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("user.client.replica.resyncs")
+            .description("Full reloads of the user replica")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
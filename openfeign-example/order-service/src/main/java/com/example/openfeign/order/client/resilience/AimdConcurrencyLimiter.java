@@ -0,0 +1,110 @@
+package com.example.openfeign.order.client.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIMD(Additive Increase, Multiplicative Decrease) 방식의 적응형 동시성 제한기
+ *
+ * - 한도의 절반 이상을 사용 중인 상태에서 빠르게 성공하면 한도를 1 늘림
+ * - 응답이 latencyThreshold보다 느리거나 실패(타임아웃/5xx)하면 한도에 backoffRatio를 곱해 줄임
+ * - 진행 중인 호출 수가 한도에 도달하면 대기열을 만들지 않고 즉시 거절 (load shedding)
+ *
+ * 락 없이 AtomicInteger CAS만 사용합니다.
+ *
+ * 메트릭: user.client.limiter.limit, user.client.limiter.inflight, user.client.limiter.rejected
+ */
+public class AimdConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public AimdConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                  double backoffRatio, Duration latencyThreshold) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("user.client.limiter.limit", limit, AtomicInteger::get)
+            .description("Current adaptive concurrency limit")
+            .tag("name", name)
+            .register(meterRegistry);
+        Gauge.builder("user.client.limiter.inflight", inFlight, AtomicInteger::get)
+            .description("Calls currently holding a limiter permit")
+            .tag("name", name)
+            .register(meterRegistry);
+        FunctionCounter.builder("user.client.limiter.rejected", rejected, LongAdder::sum)
+            .description("Calls rejected because the concurrency limit was reached")
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 한도 안이면 permit을 얻고, 한도에 도달했으면 LimitExceededException
+     */
+    public void acquire() {
+        while (true) {
+            int current = inFlight.get();
+            int currentLimit = limit.get();
+            if (current >= currentLimit) {
+                rejected.increment();
+                throw new LimitExceededException(name, currentLimit);
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 호출 성공: 응답 시간에 따라 한도를 늘리거나 줄임
+     */
+    public void onSuccess(long latencyNanos) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (inFlightBeforeRelease * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    /**
+     * 과부하로 볼 수 있는 실패 (타임아웃, 연결 실패, 5xx): 한도를 줄임
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        decrease();
+    }
+
+    /**
+     * 과부하와 무관한 실패 (4xx 등): 한도는 그대로 두고 permit만 반환
+     */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    private void decrease() {
+        limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.openfeign.order.client.resilience;
+
+import com.example.openfeign.common.Deadline;
+import com.example.openfeign.order.config.UserClientProperties;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 멱등 요청만, 예산 안에서, 흩어진 간격으로 재시도하는 Feign Retryer
+ *
+ * - 멱등 메서드(GET/HEAD/PUT/DELETE/OPTIONS)와 idempotentMethods에 지정한 메서드만 재시도 (createUser 등 POST는 재시도하지 않음)
+ * - 대기 시간은 decorrelated jitter: min(maxDelay, random(baseDelay, 이전 대기 시간 x 3))
+ *   여러 클라이언트의 재시도가 같은 시점에 몰리지 않습니다.
+ * - Retry-After가 있으면 그 시간 이상 기다리며, maxRetryAfter보다 길면 재시도하지 않음
+ * - 요청 처리 기한(Deadline)이 대기 시간보다 먼저 끝나면 재시도하지 않음
+ * - 재시도 예산(RequestBudget): 재시도는 전체 요청의 budgetRatio 비율을 넘지 못함
+ *   User Service 장애 중에 재시도가 부하를 몇 배로 키우는 것을 막습니다.
+ *
+ * Feign은 호출마다 clone()으로 새 Retryer를 만들므로 clone()을 요청 1건으로 보고 예산을 적립합니다.
+ * 예산과 메트릭은 모든 복제본이 공유하고, 시도 횟수와 이전 대기 시간만 호출별로 관리합니다.
+ *
+ * 메트릭 (재시도 횟수는 MeteredRetryer의 user.client.retries{method}):
+ * - user.client.retry.rejected{reason=exhausted|non_idempotent|retry_after_too_long|deadline|budget_exhausted}
+ * - user.client.retry.budget: 남은 재시도 예산(토큰)
+ */
+@Slf4j
+public class BudgetedRetryer implements Retryer {
+
+    private static final Set<Request.HttpMethod> IDEMPOTENT_HTTP_METHODS = EnumSet.of(
+        Request.HttpMethod.GET, Request.HttpMethod.HEAD, Request.HttpMethod.PUT,
+        Request.HttpMethod.DELETE, Request.HttpMethod.OPTIONS);
+
+    private final Policy policy;
+    private int attempt = 1;
+    private long previousDelayMillis;
+
+    public BudgetedRetryer(UserClientProperties.Retry properties, MeterRegistry meterRegistry) {
+        this(new Policy(properties, meterRegistry));
+    }
+
+    private BudgetedRetryer(Policy policy) {
+        this.policy = policy;
+        this.previousDelayMillis = policy.baseDelayMillis;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (attempt >= policy.maxAttempts) {
+            throw reject(policy.exhausted, e);
+        }
+        if (!isIdempotent(e)) {
+            throw reject(policy.nonIdempotent, e);
+        }
+        long retryAfterMillis = e.retryAfter() != null ? Math.max(0, e.retryAfter() - System.currentTimeMillis()) : 0;
+        if (retryAfterMillis > policy.maxRetryAfterMillis) {
+            throw reject(policy.retryAfterTooLong, e);
+        }
+
+        long upper = Math.max(policy.baseDelayMillis + 1, previousDelayMillis * 3);
+        long jitter = Math.min(policy.maxDelayMillis, ThreadLocalRandom.current().nextLong(policy.baseDelayMillis, upper));
+        long delay = Math.max(jitter, retryAfterMillis);
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.remainingMillis() <= delay) {
+            throw reject(policy.deadlineExceeded, e);
+        }
+        if (!policy.budget.tryAcquire()) {
+            throw reject(policy.budgetExhausted, e);
+        }
+        previousDelayMillis = jitter;
+
+        log.debug("Retrying {} {} in {}ms (attempt {}): {}",
+            e.method(), e.request() != null ? e.request().url() : "", delay, attempt + 1, e.getMessage());
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        attempt++;
+    }
+
+    @Override
+    public Retryer clone() {
+        policy.budget.onRequest();
+        return new BudgetedRetryer(policy);
+    }
+
+    private boolean isIdempotent(RetryableException e) {
+        if (e.method() != null && IDEMPOTENT_HTTP_METHODS.contains(e.method())) {
+            return true;
+        }
+        Request request = e.request();
+        if (request == null || request.requestTemplate() == null) {
+            return false;
+        }
+        MethodMetadata metadata = request.requestTemplate().methodMetadata();
+        return metadata != null && metadata.method() != null
+            && policy.idempotentMethods.contains(metadata.method().getName());
+    }
+
+    private static RetryableException reject(Counter reason, RetryableException e) {
+        reason.increment();
+        return e;
+    }
+
+    /**
+     * 모든 복제본이 공유하는 설정, 예산, 메트릭
+     */
+    private static final class Policy {
+
+        final int maxAttempts;
+        final long baseDelayMillis;
+        final long maxDelayMillis;
+        final long maxRetryAfterMillis;
+        final Set<String> idempotentMethods;
+        final RequestBudget budget;
+        final Counter exhausted;
+        final Counter nonIdempotent;
+        final Counter retryAfterTooLong;
+        final Counter deadlineExceeded;
+        final Counter budgetExhausted;
+
+        Policy(UserClientProperties.Retry properties, MeterRegistry meterRegistry) {
+            this.maxAttempts = properties.getMaxAttempts();
+            this.baseDelayMillis = Math.max(1, properties.getBaseDelay().toMillis());
+            this.maxDelayMillis = Math.max(baseDelayMillis, properties.getMaxDelay().toMillis());
+            this.maxRetryAfterMillis = properties.getMaxRetryAfter().toMillis();
+            this.idempotentMethods = Set.copyOf(properties.getIdempotentMethods());
+            this.budget = new RequestBudget(properties.getBudgetRatio(), properties.getMaxBurst());
+            this.exhausted = rejected(meterRegistry, "exhausted");
+            this.nonIdempotent = rejected(meterRegistry, "non_idempotent");
+            this.retryAfterTooLong = rejected(meterRegistry, "retry_after_too_long");
+            this.deadlineExceeded = rejected(meterRegistry, "deadline");
+            this.budgetExhausted = rejected(meterRegistry, "budget_exhausted");
+
+            Gauge.builder("user.client.retry.budget", budget, RequestBudget::available)
+                .description("Remaining retry tokens")
+                .register(meterRegistry);
+        }
+
+        private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+            return Counter.builder("user.client.retry.rejected")
+                .description("Retryable failures that were not retried")
+                .tag("reason", reason)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.openfeign.order.client.resilience;
+
+/**
+ * 적응형 동시성 한도를 넘어서 호출을 보내지 않고 거절했을 때 발생하는 예외
+ */
+public class LimitExceededException extends RuntimeException {
+
+    public LimitExceededException(String name, int limit) {
+        super("Concurrency limit exceeded for " + name + " (limit=" + limit + ")");
+    }
+}
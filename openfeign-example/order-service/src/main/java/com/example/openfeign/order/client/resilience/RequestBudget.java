@@ -0,0 +1,55 @@
+package com.example.openfeign.order.client.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추가 요청(헤지/재시도) 예산 (토큰 버킷)
+ * 일반 요청마다 ratio만큼 토큰이 쌓이고, 추가 요청은 토큰 1개를 사용합니다.
+ * 따라서 추가 요청은 전체 요청의 ratio 비율을 넘지 못하며, 장애 중에 부하를 증폭시키지 않습니다.
+ *
+ * 처음에는 maxBurst만큼 채워진 상태로 시작하므로 기동 직후의 일시적인 오류도 추가 요청으로 처리할 수 있습니다.
+ * 토큰은 1/1000 단위 정수로 보관하여 락 없이 CAS로 갱신합니다.
+ */
+public class RequestBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxTokens;
+    private final AtomicLong tokens = new AtomicLong();
+
+    public RequestBudget(double ratio, int maxBurst) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxTokens = maxBurst * SCALE;
+        this.tokens.set(maxTokens);
+    }
+
+    /**
+     * 일반 요청 1건 발생: 토큰 적립
+     */
+    public void onRequest() {
+        tokens.updateAndGet(current -> Math.min(maxTokens, current + depositPerRequest));
+    }
+
+    /**
+     * 추가 요청을 보내도 되면 토큰 1개를 사용하고 true
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 현재 남은 토큰 수 (메트릭용)
+     */
+    public double available() {
+        return tokens.get() / (double) SCALE;
+    }
+}
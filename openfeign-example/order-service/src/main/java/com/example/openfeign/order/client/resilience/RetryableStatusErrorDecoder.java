@@ -0,0 +1,34 @@
+package com.example.openfeign.order.client.resilience;
+
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.ErrorDecoder;
+
+import java.util.Set;
+
+/**
+ * 일시적인 오류 상태 코드(429, 502, 503, 504 등)를 재시도 가능한 예외로 바꾸는 ErrorDecoder
+ *
+ * Feign 기본 ErrorDecoder는 Retry-After 헤더가 있는 응답만 RetryableException으로 만듭니다.
+ * 이 디코더는 기본 동작을 유지하면서 retryableStatuses에 해당하는 응답도 재시도 대상으로 표시합니다.
+ * 실제 재시도 여부(멱등성, 예산, 횟수)는 BudgetedRetryer가 결정합니다.
+ */
+public class RetryableStatusErrorDecoder implements ErrorDecoder {
+
+    private final ErrorDecoder delegate = new ErrorDecoder.Default();
+    private final Set<Integer> retryableStatuses;
+
+    public RetryableStatusErrorDecoder(Set<Integer> retryableStatuses) {
+        this.retryableStatuses = Set.copyOf(retryableStatuses);
+    }
+
+    @Override
+    public Exception decode(String methodKey, Response response) {
+        Exception exception = delegate.decode(methodKey, response);
+        if (exception instanceof RetryableException || !retryableStatuses.contains(response.status())) {
+            return exception;
+        }
+        return new RetryableException(response.status(), exception.getMessage(), response.request().httpMethod(),
+            exception, (Long) null, response.request());
+    }
+}
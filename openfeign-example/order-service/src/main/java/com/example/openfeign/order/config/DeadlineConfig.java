@@ -0,0 +1,42 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.order.client.deadline.DeadlineCapability;
+import com.example.openfeign.order.client.deadline.DeadlineRequestInterceptor;
+import com.example.openfeign.order.controller.DeadlineFilter;
+import feign.Capability;
+import feign.Request;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 처리 기한 전달 설정 (user.client.deadline.*)
+ *
+ * /api/orders 요청의 기한(X-Request-Timeout 헤더 또는 defaultTimeout)을
+ * User Service 호출마다 남은 시간으로 줄인 타임아웃과 X-Request-Timeout 헤더로 전달합니다.
+ * User Service는 기한이 지난 요청을 처리하지 않고 504로 응답합니다.
+ *
+ * 확인: /actuator/metrics/user.client.retry.rejected?tag=reason:deadline
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.client.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+    @Bean
+    public DeadlineFilter deadlineFilter(UserClientProperties properties) {
+        return new DeadlineFilter(properties.getDeadline());
+    }
+
+    @Bean
+    public Capability deadlineCapability() {
+        return new DeadlineCapability();
+    }
+
+    /**
+     * RestClientUserClient(restclient 프로필)용
+     */
+    @Bean
+    public DeadlineRequestInterceptor deadlineRequestInterceptor(Request.Options requestOptions) {
+        return new DeadlineRequestInterceptor(requestOptions.readTimeoutMillis());
+    }
+}
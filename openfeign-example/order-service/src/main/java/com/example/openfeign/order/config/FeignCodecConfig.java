@@ -0,0 +1,43 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.order.client.codec.SmileDecoder;
+import com.example.openfeign.order.client.codec.SmileEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import feign.optionals.OptionalDecoder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Feign 바이너리(Smile) 직렬화 설정
+ * user.client.wire-format=smile일 때만 적용되며, 기본값(json)에서는 Spring 기본 인코더/디코더를 사용합니다.
+ *
+ * - 요청 바디는 Smile로 인코딩
+ * - Accept 헤더로 Smile을 우선 요청하고, 서버가 JSON으로 응답하면 JSON으로 디코딩
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.client.wire-format", havingValue = "smile")
+public class FeignCodecConfig {
+
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+    @Bean
+    public Encoder feignEncoder() {
+        return new SmileEncoder(smileMapper);
+    }
+
+    @Bean
+    public Decoder feignDecoder(ObjectMapper objectMapper) {
+        return new OptionalDecoder(new ResponseEntityDecoder(new SmileDecoder(smileMapper, objectMapper)));
+    }
+
+    @Bean
+    public RequestInterceptor smileAcceptInterceptor() {
+        return template -> template.header("Accept", SmileEncoder.SMILE_MEDIA_TYPE + ", application/json;q=0.5");
+    }
+}
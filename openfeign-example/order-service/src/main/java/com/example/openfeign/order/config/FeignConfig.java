@@ -1,19 +1,23 @@
 package com.example.openfeign.order.config;
 
+import com.example.openfeign.order.client.codec.NotModifiedResponseInterceptor;
 import feign.Logger;
 import feign.Request;
-import feign.Retryer;
+import feign.ResponseInterceptor;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 import java.util.concurrent.TimeUnit;
 
 /**
  * Feign 클라이언트 설정
+ * 네이티브 이미지용 리플렉션/프록시 힌트는 FeignRuntimeHints에서 등록합니다.
  */
 @Configuration
 @EnableFeignClients(basePackages = "com.example.openfeign.order.client")
+@ImportRuntimeHints(FeignRuntimeHints.class)
 public class FeignConfig {
 
     /**
@@ -30,6 +34,7 @@ public class FeignConfig {
 
     /**
      * 요청 옵션 설정 (타임아웃 등)
+     * 요청 처리 기한이 있는 호출은 DeadlineClient가 남은 시간에 맞춰 호출마다 더 짧게 줄입니다.
      */
     @Bean
     public Request.Options requestOptions() {
@@ -41,17 +46,10 @@ public class FeignConfig {
     }
 
     /**
-     * 재시도 정책 설정
-     * period: 재시도 간격
-     * maxPeriod: 최대 재시도 간격
-     * maxAttempts: 최대 재시도 횟수
+     * 조건부 조회(If-None-Match)의 304 응답을 예외 대신 ResponseEntity로 처리
      */
     @Bean
-    public Retryer retryer() {
-        return new Retryer.Default(
-            100,    // 시작 간격 (ms)
-            1000,   // 최대 간격 (ms)
-            3       // 최대 시도 횟수
-        );
+    public ResponseInterceptor notModifiedResponseInterceptor() {
+        return new NotModifiedResponseInterceptor();
     }
 }
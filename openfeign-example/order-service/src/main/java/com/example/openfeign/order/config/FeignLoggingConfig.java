@@ -0,0 +1,43 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.order.client.logging.AsyncLogWriter;
+import com.example.openfeign.order.client.logging.SampledFeignLogger;
+import com.example.openfeign.order.client.logging.StreamingAwareSlf4jLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.FeignLoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign 로그 설정 (user.client.logging.mode)
+ * FeignLoggerFactory를 바꿔서 기본 Slf4jLogger 대신 사용할 로거를 정합니다.
+ *
+ * - full (기본값): StreamingAwareSlf4jLogger (스트리밍 응답은 바디 없이 기록)
+ * - sampled: SampledFeignLogger
+ */
+@Configuration
+public class FeignLoggingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "user.client.logging.mode", havingValue = "full", matchIfMissing = true)
+    public FeignLoggerFactory feignLoggerFactory() {
+        return StreamingAwareSlf4jLogger::new;
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "user.client.logging.mode", havingValue = "sampled")
+    static class Sampled {
+
+        @Bean
+        public AsyncLogWriter feignLogWriter(UserClientProperties properties, MeterRegistry meterRegistry) {
+            return new AsyncLogWriter(properties.getLogging().getQueueCapacity(), meterRegistry);
+        }
+
+        @Bean
+        public FeignLoggerFactory sampledFeignLoggerFactory(AsyncLogWriter feignLogWriter,
+                                                            UserClientProperties properties) {
+            return type -> new SampledFeignLogger(type, feignLogWriter, properties.getLogging());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.order.client.metrics.UserClientMetrics;
+import com.example.openfeign.order.client.metrics.UserClientMetricsCapability;
+import feign.Capability;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign 메서드별 메트릭 설정
+ * Capability 빈은 Spring Cloud OpenFeign이 모든 Feign 클라이언트 빌더에 적용합니다.
+ *
+ * 확인: /actuator/metrics/user.client.requests, /actuator/prometheus
+ */
+@Configuration
+public class FeignMetricsConfig {
+
+    @Bean
+    public UserClientMetrics userClientMetrics(MeterRegistry meterRegistry) {
+        return new UserClientMetrics(meterRegistry);
+    }
+
+    @Bean
+    public Capability userClientMetricsCapability(UserClientMetrics userClientMetrics) {
+        return new UserClientMetricsCapability(userClientMetrics);
+    }
+}
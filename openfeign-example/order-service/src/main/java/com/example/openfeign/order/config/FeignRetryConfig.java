@@ -0,0 +1,33 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.order.client.resilience.BudgetedRetryer;
+import com.example.openfeign.order.client.resilience.RetryableStatusErrorDecoder;
+import feign.Retryer;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashSet;
+
+/**
+ * Feign 재시도 정책 설정 (user.client.retry.*)
+ *
+ * 재시도 예산은 모든 호출이 공유해야 하므로 클라이언트별 설정(FeignConfig)이 아닌 이 설정에 둡니다.
+ * FeignConfig에 두면 Feign 클라이언트 컨텍스트마다 Retryer가 따로 만들어져 예산이 나뉩니다.
+ *
+ * 확인: /actuator/metrics/user.client.retries, user.client.retry.rejected, user.client.retry.budget
+ */
+@Configuration
+public class FeignRetryConfig {
+
+    @Bean
+    public Retryer retryer(UserClientProperties properties, MeterRegistry meterRegistry) {
+        return new BudgetedRetryer(properties.getRetry(), meterRegistry);
+    }
+
+    @Bean
+    public ErrorDecoder errorDecoder(UserClientProperties properties) {
+        return new RetryableStatusErrorDecoder(new HashSet<>(properties.getRetry().getRetryableStatuses()));
+    }
+}
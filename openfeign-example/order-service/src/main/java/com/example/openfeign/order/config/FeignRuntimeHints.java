@@ -0,0 +1,37 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeEvent;
+import com.example.openfeign.common.UserChanges;
+import com.example.openfeign.order.client.RestUserClient;
+import com.example.openfeign.order.client.UserClient;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * GraalVM 네이티브 이미지에서 Feign 클라이언트가 동작하기 위한 런타임 힌트
+ *
+ * 네이티브 이미지는 빌드 시점에 알려진 리플렉션/프록시만 사용할 수 있습니다.
+ * - Feign은 @FeignClient 인터페이스로 JDK 동적 프록시를 만듦
+ * - SpringMvcContract는 인터페이스 메서드와 애너테이션을 리플렉션으로 읽음
+ * - 응답 바디(JSON, Smile, 스트리밍 NDJSON)는 Jackson이 리플렉션으로 생성
+ *   UserStreams, HttpAsyncUserClient, SmileDecoder처럼 Spring MVC를 거치지 않는 역직렬화는 자동 추론되지 않음
+ */
+public class FeignRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.proxies().registerJdkProxy(RestUserClient.class);
+        hints.reflection()
+            .registerType(RestUserClient.class, MemberCategory.INTROSPECT_PUBLIC_METHODS, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(UserClient.class, MemberCategory.INTROSPECT_PUBLIC_METHODS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+            User.class, CursorPage.class, UserChanges.class, UserChangeEvent.class);
+    }
+}
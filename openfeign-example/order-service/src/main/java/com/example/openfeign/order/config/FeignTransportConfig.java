@@ -0,0 +1,146 @@
+package com.example.openfeign.order.config;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import okhttp3.ConnectionPool;
+import okhttp3.Protocol;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign HTTP 전송 계층 설정
+ * Client 빈이 없으면 Feign은 HttpURLConnection 기반 기본 클라이언트를 사용하므로
+ * 연결 재사용을 제어할 수 있도록 커넥션 풀 기반 클라이언트를 등록합니다.
+ *
+ * user.client.transport.type:
+ * - hc5: Apache HttpClient 5 커넥션 풀 (기본값)
+ * - okhttp: OkHttp 커넥션 풀 (http2=true면 h2c prior-knowledge 사용)
+ * - default: Feign 기본 클라이언트 (HttpURLConnection)
+ */
+@Configuration
+public class FeignTransportConfig {
+
+    static final String POOL_NAME = "user-service";
+
+    @Configuration
+    @ConditionalOnProperty(name = "user.client.transport.type", havingValue = "hc5", matchIfMissing = true)
+    static class Hc5Transport {
+
+        @Bean
+        public LeaseTimingConnectionManager userServiceConnectionManager(UserClientProperties properties,
+                                                                         MeterRegistry meterRegistry) {
+            UserClientProperties.Transport transport = properties.getTransport();
+
+            LeaseTimingConnectionManager connectionManager = new LeaseTimingConnectionManager(POOL_NAME, meterRegistry);
+            connectionManager.setMaxTotal(transport.getMaxConnections());
+            connectionManager.setDefaultMaxPerRoute(transport.getMaxConnectionsPerRoute());
+            connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setTimeToLive(TimeValue.of(transport.getTimeToLive()))
+                // 2초 넘게 쉰 연결은 빌려줄 때 검사 (HttpClient 5.2는 synchronized 안에서 최대 1ms 소켓 읽기를 하므로
+                // 가상 스레드는 이 짧은 시간 동안 캐리어 스레드를 점유함, 풀 대기는 LeaseTimingConnectionManager가 밖에서 처리)
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build());
+            for (Map.Entry<String, Integer> route : transport.getMaxConnectionsPerHost().entrySet()) {
+                connectionManager.setMaxPerRoute(new HttpRoute(httpHost(route.getKey())), route.getValue());
+            }
+
+            // httpcomponents.httpclient.pool.{total.max, total.connections, total.pending, route.max.default}
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+            return connectionManager;
+        }
+
+        @Bean
+        public CloseableHttpClient userServiceHttpClient(LeaseTimingConnectionManager connectionManager,
+                                                         UserClientProperties properties) {
+            UserClientProperties.Transport transport = properties.getTransport();
+            TimeValue keepAlive = TimeValue.of(transport.getKeepAlive());
+
+            return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictIdleConnections(TimeValue.of(transport.getIdleEviction()))
+                .evictExpiredConnections()
+                .disableAutomaticRetries() // 재시도는 Feign Retryer가 담당
+                .build();
+        }
+
+        @Bean
+        public Client feignClient(CloseableHttpClient userServiceHttpClient) {
+            return new ApacheHttp5Client(userServiceHttpClient);
+        }
+
+        private static HttpHost httpHost(String url) {
+            try {
+                return HttpHost.create(url);
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException("Invalid host in user.client.transport.max-connections-per-host: " + url, e);
+            }
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "user.client.transport.type", havingValue = "okhttp")
+    static class OkHttpTransport {
+
+        /**
+         * OkHttp는 동기 호출에 대해 호스트별 연결 수 제한이 없으므로
+         * 유휴 연결 수(maxConnectionsPerRoute)와 keep-alive만 설정합니다.
+         */
+        @Bean
+        public okhttp3.OkHttpClient userServiceOkHttpClient(UserClientProperties properties,
+                                                            MeterRegistry meterRegistry) {
+            UserClientProperties.Transport transport = properties.getTransport();
+
+            ConnectionPool connectionPool = new ConnectionPool(
+                transport.getMaxConnectionsPerRoute(),
+                transport.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+
+            // okhttp.pool.connection.count{state=active|idle}, okhttp.pool.connection.limit
+            new OkHttpConnectionPoolMetrics(connectionPool, "okhttp.pool", Tags.of("pool", POOL_NAME),
+                transport.getMaxConnectionsPerRoute()).bindTo(meterRegistry);
+
+            okhttp3.OkHttpClient.Builder builder = new okhttp3.OkHttpClient.Builder()
+                .connectionPool(connectionPool)
+                .retryOnConnectionFailure(false); // 재시도는 Feign Retryer가 담당
+            if (transport.isHttp2()) {
+                builder.protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+            }
+            return builder.build();
+        }
+
+        @Bean
+        public Client feignClient(okhttp3.OkHttpClient userServiceOkHttpClient) {
+            return new feign.okhttp.OkHttpClient(userServiceOkHttpClient);
+        }
+    }
+
+    /**
+     * Feign 기본 클라이언트 (HttpURLConnection)
+     * 빈이 없어도 Feign이 같은 클라이언트를 쓰지만, LoadBalancerConfig가 감쌀 수 있도록 빈으로 등록합니다.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "user.client.transport.type", havingValue = "default")
+    static class DefaultTransport {
+
+        @Bean
+        public Client feignClient() {
+            return new Client.Default(null, null);
+        }
+    }
+}
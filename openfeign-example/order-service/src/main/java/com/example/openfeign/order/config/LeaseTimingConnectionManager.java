@@ -0,0 +1,142 @@
+package com.example.openfeign.order.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 커넥션 풀에서 연결을 빌려오기까지 기다린 시간을 기록하는 연결 관리자
+ * 풀이 부족하면(connection starvation) 이 값이 먼저 커집니다.
+ *
+ * 풀이 가득 찼을 때의 대기는 이 클래스의 Semaphore(전체, 호스트별 최대 연결 수)에서 합니다.
+ * HttpClient 5.2의 LeaseRequest.get()은 synchronized 안에서 빈 연결을 기다리므로,
+ * 가상 스레드가 그 안에서 기다리면 캐리어 스레드를 점유(pinning)합니다.
+ * 허가를 먼저 받은 스레드만 풀에 요청하므로 풀 안에서는 기다리지 않습니다.
+ *
+ * 메트릭: user.client.connection.lease{pool=...}
+ */
+public class LeaseTimingConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final Timer leaseTimer;
+    private final Map<HttpRoute, Semaphore> routePermits = new ConcurrentHashMap<>();
+    private final Map<ConnectionEndpoint, Permit> leased = new ConcurrentHashMap<>();
+    private volatile Semaphore totalPermits = new Semaphore(getMaxTotal(), true);
+
+    public LeaseTimingConnectionManager(String poolName, MeterRegistry meterRegistry) {
+        this.leaseTimer = Timer.builder("user.client.connection.lease")
+            .description("Time spent waiting to lease a pooled connection")
+            .tag("pool", poolName)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest leaseRequest = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                try {
+                    Permit permit = acquire(route, timeout);
+                    try {
+                        ConnectionEndpoint endpoint = leaseRequest.get(timeout);
+                        leased.put(endpoint, permit);
+                        return endpoint;
+                    } catch (InterruptedException | ExecutionException | TimeoutException | RuntimeException e) {
+                        permit.release();
+                        throw e;
+                    }
+                } finally {
+                    leaseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return leaseRequest.cancel();
+            }
+        };
+    }
+
+    /**
+     * 최대 연결 수를 바꾸면 허가도 새로 만듦 (이미 빌려 간 연결은 받았던 허가에 반납)
+     */
+    @Override
+    public void setMaxTotal(int max) {
+        super.setMaxTotal(max);
+        totalPermits = new Semaphore(max, true);
+    }
+
+    @Override
+    public void setDefaultMaxPerRoute(int max) {
+        super.setDefaultMaxPerRoute(max);
+        routePermits.clear();
+    }
+
+    @Override
+    public void setMaxPerRoute(HttpRoute route, int max) {
+        super.setMaxPerRoute(route, max);
+        routePermits.remove(route);
+    }
+
+    @Override
+    public void release(ConnectionEndpoint endpoint, Object state, TimeValue keepAlive) {
+        try {
+            super.release(endpoint, state, keepAlive);
+        } finally {
+            Permit permit = leased.remove(endpoint);
+            if (permit != null) {
+                permit.release();
+            }
+        }
+    }
+
+    /**
+     * 호스트별 허가, 전체 허가 순으로 받음 (timeout 안에 받지 못하면 TimeoutException, timeout이 없으면 계속 기다림)
+     */
+    private Permit acquire(HttpRoute route, Timeout timeout) throws InterruptedException, TimeoutException {
+        Semaphore perRoute = routePermits.computeIfAbsent(route, key -> new Semaphore(getMaxPerRoute(key), true));
+        Semaphore total = totalPermits;
+        long start = System.nanoTime();
+
+        if (!tryAcquire(perRoute, timeout, start)) {
+            throw new TimeoutException("Timeout waiting for connection to " + route + ": " + timeout);
+        }
+        if (!tryAcquire(total, timeout, start)) {
+            perRoute.release();
+            throw new TimeoutException("Timeout waiting for connection: " + timeout);
+        }
+        return new Permit(perRoute, total);
+    }
+
+    private static boolean tryAcquire(Semaphore semaphore, Timeout timeout, long startNanos) throws InterruptedException {
+        if (!Timeout.isPositive(timeout)) {
+            semaphore.acquire();
+            return true;
+        }
+        long remaining = timeout.toNanoseconds() - (System.nanoTime() - startNanos);
+        return semaphore.tryAcquire(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+    }
+
+    private record Permit(Semaphore perRoute, Semaphore total) {
+
+        void release() {
+            total.release();
+            perRoute.release();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.order.client.loadbalancer.LoadBalancingClient;
+import com.example.openfeign.order.client.loadbalancer.UserServiceLoadBalancer;
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 클라이언트 측 로드 밸런싱 설정 (user.client.load-balancer.enabled=true)
+ * FeignTransportConfig의 전송 Client를 LoadBalancingClient로 감싸서 Feign이 사용할 @Primary Client로 등록합니다.
+ *
+ * 사용법:
+ * --user.client.load-balancer.enabled=true
+ * --user.client.load-balancer.instances=http://localhost:8080,http://localhost:8082
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.client.load-balancer.enabled", havingValue = "true")
+public class LoadBalancerConfig {
+
+    @Bean
+    public UserServiceLoadBalancer userServiceLoadBalancer(UserClientProperties properties,
+                                                           MeterRegistry meterRegistry) {
+        return new UserServiceLoadBalancer(properties.getLoadBalancer(), meterRegistry);
+    }
+
+    /**
+     * feignClient: FeignTransportConfig의 전송 Client (자기 자신은 주입 후보에서 제외됨)
+     */
+    @Bean
+    @Primary
+    public Client loadBalancingFeignClient(Client feignClient, UserServiceLoadBalancer userServiceLoadBalancer) {
+        return new LoadBalancingClient(feignClient, userServiceLoadBalancer);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.order.client.UserClient;
+import com.example.openfeign.order.client.replica.UserReplica;
+import com.example.openfeign.order.repository.UserSnapshotRepository;
+import com.example.openfeign.order.service.OrderReadModelRefresher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 주문 조회 모델 설정 (order.read-model.*)
+ * 사용자 스냅샷을 백그라운드에서 갱신하는 OrderReadModelRefresher를 시작합니다.
+ * 사용자 복제본(user.client.replica.enabled, rest 프로필)이 켜져 있으면 변경 이벤트로도 갱신합니다.
+ *
+ * 사용법:
+ * GET /api/orders/{id}?live=true (스냅샷 대신 User Service에서 조회)
+ * --order.read-model.enabled=false (항상 User Service에서 조회)
+ *
+ * 확인: /actuator/metrics/order.read.model.reads, order.read.model.staleness, order.read.model.oldest.snapshot
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.read-model.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderReadModelConfig {
+
+    /**
+     * userClient: 회복성 계층까지만 적용한 UserClient (UserClientConfig.RESILIENT)
+     * 주기적 재조회는 near-cache를 거치지 않지만, User Service 장애 시에는 서킷 브레이커와 동시성 제한을 따릅니다.
+     */
+    @Bean
+    public OrderReadModelRefresher orderReadModelRefresher(UserSnapshotRepository snapshots,
+                                                           @Qualifier(UserClientConfig.RESILIENT) UserClient userClient,
+                                                           ObjectProvider<UserReplica> userReplica,
+                                                           OrderReadModelProperties properties,
+                                                           UserClientProperties userClientProperties,
+                                                           MeterRegistry meterRegistry) {
+        OrderReadModelRefresher refresher = new OrderReadModelRefresher(snapshots, userClient,
+            userReplica.getIfAvailable(), properties.getRefreshInterval(), userClientProperties.getBatchSize(),
+            meterRegistry);
+        refresher.start();
+        return refresher;
+    }
+}
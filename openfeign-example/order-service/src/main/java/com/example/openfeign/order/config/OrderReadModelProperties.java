@@ -0,0 +1,30 @@
+package com.example.openfeign.order.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 주문 조회 모델 설정 (order.read-model.*)
+ * 주문 조회 시 User Service를 호출하지 않고 주문과 함께 저장해 둔 사용자 스냅샷을 사용합니다 (OrderReadModel).
+ */
+@Data
+@ConfigurationProperties(prefix = "order.read-model")
+public class OrderReadModelProperties {
+
+    /**
+     * false면 주문 조회마다 사용자 정보를 User Service에서 가져옴 (기존 방식)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 스냅샷이 이 시간보다 오래되면 백그라운드에서 다시 조회 (변경 이벤트를 받지 못한 경우의 갱신 주기)
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * 조회 시 허용하는 최대 스냅샷 나이 (넘으면 그 주문은 User Service에서 다시 조회)
+     */
+    private Duration maxStaleness = Duration.ofMinutes(5);
+}
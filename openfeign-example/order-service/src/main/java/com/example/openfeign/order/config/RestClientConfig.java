@@ -0,0 +1,100 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.common.Deadline;
+import com.example.openfeign.order.client.deadline.DeadlineRequestInterceptor;
+import feign.Request;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RestClientUserClient용 RestClient 설정 (restclient 프로필)
+ *
+ * - 전송: FeignTransportConfig의 Apache HttpClient 5 커넥션 풀을 Feign과 같이 사용 (user.client.transport.type=hc5)
+ *   다른 전송(okhttp, default)에서는 풀이 없으므로 JDK HttpURLConnection(SimpleClientHttpRequestFactory)을 사용
+ * - 타임아웃: FeignConfig의 Request.Options (요청 처리 기한이 있으면 남은 시간으로 줄임)
+ * - 처리 기한 헤더: DeadlineRequestInterceptor (user.client.deadline.enabled)
+ * - 메트릭: Spring Boot가 구성한 RestClient.Builder의 http.client.requests{uri,status,...}
+ */
+@Configuration
+@Profile("restclient")
+public class RestClientConfig {
+
+    @Bean
+    public RestClient userServiceRestClient(RestClient.Builder builder,
+                                            @Value("${user.service.url}") String userServiceUrl,
+                                            ObjectProvider<CloseableHttpClient> userServiceHttpClient,
+                                            Request.Options requestOptions,
+                                            ObjectProvider<DeadlineRequestInterceptor> deadlineInterceptor) {
+        CloseableHttpClient httpClient = userServiceHttpClient.getIfAvailable();
+        ClientHttpRequestFactory requestFactory;
+        if (httpClient != null) {
+            HttpComponentsClientHttpRequestFactory hc5 = new HttpComponentsClientHttpRequestFactory(httpClient);
+            hc5.setHttpContextFactory((method, uri) -> httpContext(requestOptions));
+            requestFactory = hc5;
+        } else {
+            requestFactory = new DeadlineSimpleClientHttpRequestFactory(requestOptions);
+        }
+
+        builder.baseUrl(userServiceUrl).requestFactory(requestFactory);
+        deadlineInterceptor.ifAvailable(builder::requestInterceptor);
+        return builder.build();
+    }
+
+    /**
+     * 요청마다 적용할 HttpClient 설정 (요청을 만드는 스레드의 처리 기한 기준)
+     */
+    @SuppressWarnings("deprecation") // ApacheHttp5Client와 같이 요청 단위 연결 타임아웃 사용
+    static HttpContext httpContext(Request.Options options) {
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+            .setConnectTimeout(limitToDeadline(options.connectTimeoutMillis()), TimeUnit.MILLISECONDS)
+            .setResponseTimeout(limitToDeadline(options.readTimeoutMillis()), TimeUnit.MILLISECONDS)
+            .build());
+        return context;
+    }
+
+    /**
+     * 설정된 타임아웃과 현재 스레드의 남은 처리 기한 중 작은 값
+     */
+    static long limitToDeadline(long timeoutMillis) {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return timeoutMillis;
+        }
+        return Math.min(timeoutMillis, Math.max(1, deadline.remainingMillis()));
+    }
+
+    /**
+     * HttpURLConnection마다 처리 기한으로 줄인 타임아웃을 적용하는 SimpleClientHttpRequestFactory (hc5가 아닐 때)
+     */
+    static class DeadlineSimpleClientHttpRequestFactory extends SimpleClientHttpRequestFactory {
+
+        private final Request.Options options;
+
+        DeadlineSimpleClientHttpRequestFactory(Request.Options options) {
+            this.options = options;
+        }
+
+        @Override
+        protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+            super.prepareConnection(connection, httpMethod);
+            connection.setConnectTimeout((int) limitToDeadline(options.connectTimeoutMillis()));
+            connection.setReadTimeout((int) limitToDeadline(options.readTimeoutMillis()));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.order.client.CachingUserClient;
+import com.example.openfeign.order.client.FallbackUserClient;
+import com.example.openfeign.order.client.HedgingUserClient;
+import com.example.openfeign.order.client.ReplicatedUserClient;
+import com.example.openfeign.order.client.ResilientUserClient;
+import com.example.openfeign.order.client.SingleFlightUserClient;
+import com.example.openfeign.order.client.UserClient;
+import com.example.openfeign.order.client.replica.UserReplica;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * UserClient 데코레이터 구성
+ * 프로필로 선택된 구현체(RestUserClient / RestClientUserClient / StubUserClient)를 감싸서
+ * OrderService 등에 주입되는 @Primary UserClient를 만듭니다.
+ */
+@Configuration
+public class UserClientConfig {
+
+    /**
+     * 프로필로 선택된 구현체의 한정자 (RestUserClient / RestClientUserClient / StubUserClient)
+     */
+    public static final String DELEGATE = "userClientDelegate";
+
+    /**
+     * 회복성 계층(ResilientUserClient)까지만 적용한 UserClient 빈 이름
+     * near-cache를 거치지 않아야 하는 호출(주문 조회 모델의 주기적 재조회)이 사용합니다.
+     */
+    public static final String RESILIENT = "resilientUserClient";
+
+    /**
+     * 서킷 브레이커, bulkhead, 동시성 제한을 적용한 구현체 (user.client.resilience.enabled=false면 구현체 그대로)
+     * @Primary UserClient와 같은 인스턴스를 공유하므로 서킷 브레이커와 제한값도 하나입니다.
+     */
+    @Bean(RESILIENT)
+    public UserClient resilientUserClient(@Qualifier(DELEGATE) UserClient delegate,
+                                          UserClientProperties properties,
+                                          MeterRegistry meterRegistry) {
+        if (!properties.getResilience().isEnabled()) {
+            return delegate;
+        }
+        return new ResilientUserClient(delegate, properties.getResilience(), meterRegistry);
+    }
+
+    /**
+     * resilient: resilientUserClient 빈
+     *
+     * 호출 순서: FallbackUserClient -> ReplicatedUserClient -> CachingUserClient -> SingleFlightUserClient
+     *           -> HedgingUserClient -> ResilientUserClient -> 구현체
+     * ReplicatedUserClient는 UserReplica 빈이 있을 때만 적용됩니다 (UserReplicaConfig).
+     * 이때 near-cache와 fallback의 보관 값은 복제본의 변경 이벤트로 무효화합니다.
+     */
+    @Bean
+    @Primary
+    public UserClient userClient(@Qualifier(RESILIENT) UserClient resilient,
+                                 UserClientProperties properties,
+                                 ObjectProvider<UserReplica> userReplica,
+                                 MeterRegistry meterRegistry) {
+        UserClient client = resilient;
+
+        if (properties.getHedging().isEnabled()) {
+            client = new HedgingUserClient(client, properties.getHedging(), meterRegistry);
+        }
+        if (properties.getSingleFlight().isEnabled()) {
+            client = new SingleFlightUserClient(client, meterRegistry);
+        }
+        UserReplica replica = userReplica.getIfAvailable();
+        if (properties.getCache().isEnabled()) {
+            CachingUserClient caching = new CachingUserClient(client, properties.getCache(), meterRegistry);
+            if (replica != null) {
+                replica.addListener(caching::onUserChange);
+            }
+            client = caching;
+        }
+        if (replica != null) {
+            client = new ReplicatedUserClient(client, replica, meterRegistry);
+        }
+        if (properties.getResilience().getFallback().getMode() != FallbackUserClient.Mode.NONE) {
+            FallbackUserClient fallback = new FallbackUserClient(client, properties.getResilience().getFallback(),
+                meterRegistry);
+            if (replica != null) {
+                replica.addListener(fallback::onUserChange);
+            }
+            client = fallback;
+        }
+        return client;
+    }
+}
@@ -0,0 +1,460 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.order.client.FallbackUserClient;
+import com.example.openfeign.order.client.replica.UserReplicaSynchronizer;
+import com.example.openfeign.order.service.OrderUserEnricher;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User Service 클라이언트 설정 (user.client.*)
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "user.client")
+public class UserClientProperties {
+
+    /**
+     * 일괄 조회 시 한 번의 요청에 담을 최대 사용자 ID 수 (1 이상)
+     */
+    @Min(1)
+    private int batchSize = 100;
+
+    /**
+     * User Service와 주고받는 데이터 형식 (JSON / SMILE)
+     * SMILE이면 FeignCodecConfig의 바이너리 인코더/디코더를 사용합니다.
+     */
+    private WireFormat wireFormat = WireFormat.JSON;
+
+    public enum WireFormat { JSON, SMILE }
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private final Cache cache = new Cache();
+
+    private final Replica replica = new Replica();
+
+    private final Enrichment enrichment = new Enrichment();
+
+    private final Async async = new Async();
+
+    private final Transport transport = new Transport();
+
+    private final Resilience resilience = new Resilience();
+
+    private final Hedging hedging = new Hedging();
+
+    private final Retry retry = new Retry();
+
+    private final Deadline deadline = new Deadline();
+
+    private final LoadBalancer loadBalancer = new LoadBalancer();
+
+    private final Logging logging = new Logging();
+
+    @Data
+    public static class SingleFlight {
+        /**
+         * 같은 ID에 대한 동시 조회를 하나의 호출로 합칠지 여부
+         */
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Cache {
+        /**
+         * 사용자 조회 near-cache 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 항목 수
+         */
+        private long maxEntries = 10_000;
+
+        /**
+         * 저장 후 만료 시간
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * 이 시간이 지난 항목은 조회 시 백그라운드로 갱신 (0이면 사용 안함, ttl보다 짧아야 함)
+         */
+        private Duration refreshAfter = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Replica {
+        /**
+         * 사용자 전체를 메모리에 복제하고 변경 이벤트로 갱신할지 여부 (rest 프로필 전용)
+         * 사용하면 getUserById/getUsersByIds를 User Service 호출 없이 복제본에서 응답합니다.
+         */
+        private boolean enabled = false;
+
+        /**
+         * 변경 이벤트를 받는 방식
+         * - POLL: /api/users/changes 롱 폴링
+         * - PUSH: UserChangeTransport 빈(LocalUserChangeTransport, 메시지 브로커 구현 등)으로 구독
+         */
+        private UserReplicaSynchronizer.Mode mode = UserReplicaSynchronizer.Mode.POLL;
+
+        /**
+         * POLL: 롱 폴링 대기 시간 (Feign 읽기 타임아웃보다 짧아야 함)
+         * PUSH: 마지막 이벤트 이후 누락이 없는지 /api/users/changes로 확인하는 주기
+         */
+        private Duration pollWait = Duration.ofSeconds(5);
+
+        /**
+         * 한 번에 받아올 최대 이벤트 수
+         */
+        private int batchSize = 500;
+
+        /**
+         * User Service 호출이 실패했을 때 다시 시도하기까지 대기 시간
+         */
+        private Duration retryBackoff = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Enrichment {
+        /**
+         * 주문 목록의 사용자 정보 조회 방식 (SERIAL / BATCH / PARALLEL)
+         */
+        private OrderUserEnricher.Mode mode = OrderUserEnricher.Mode.BATCH;
+
+        /**
+         * PARALLEL 모드와 일괄 주문 생성(사용자 검증)에서 동시에 진행되는 최대 호출 수
+         */
+        private int maxConcurrency = 64;
+
+        /**
+         * PARALLEL 모드에서 전체 조회를 기다리는 최대 시간
+         */
+        private Duration deadline = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class Async {
+        /**
+         * AsyncUserClient 연결 타임아웃
+         */
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        /**
+         * AsyncUserClient 요청 타임아웃 (응답 완료까지)
+         */
+        private Duration requestTimeout = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Transport {
+
+        public enum Type { HC5, OKHTTP, DEFAULT }
+
+        /**
+         * Feign HTTP 클라이언트 종류 (HC5 / OKHTTP / DEFAULT)
+         */
+        private Type type = Type.HC5;
+
+        /**
+         * 전체 최대 연결 수 (HC5)
+         */
+        private int maxConnections = 200;
+
+        /**
+         * 호스트(route)별 최대 연결 수 (HC5), OkHttp에서는 최대 유휴 연결 수
+         */
+        private int maxConnectionsPerRoute = 50;
+
+        /**
+         * 특정 호스트의 최대 연결 수 (예: http://localhost:8080: 100)
+         */
+        private Map<String, Integer> maxConnectionsPerHost = new LinkedHashMap<>();
+
+        /**
+         * 유휴 연결을 유지하는 시간
+         */
+        private Duration keepAlive = Duration.ofSeconds(30);
+
+        /**
+         * 이 시간 이상 유휴 상태인 연결은 백그라운드에서 정리 (HC5)
+         */
+        private Duration idleEviction = Duration.ofSeconds(30);
+
+        /**
+         * 연결 최대 수명 (HC5)
+         */
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        /**
+         * HTTP/2 사용 여부 (OKHTTP 전용, h2c prior-knowledge)
+         * user-service에 server.http2.enabled=true가 필요합니다.
+         */
+        private boolean http2 = false;
+    }
+
+    @Data
+    public static class Resilience {
+        /**
+         * 서킷 브레이커 / Bulkhead / 적응형 동시성 제한 사용 여부
+         */
+        private boolean enabled = true;
+
+        private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+        private final Bulkhead bulkhead = new Bulkhead();
+
+        private final Limiter limiter = new Limiter();
+
+        private final Fallback fallback = new Fallback();
+
+        @Data
+        public static class CircuitBreaker {
+            /**
+             * 실패율(%)이 이 값 이상이면 서킷 오픈
+             */
+            private float failureRateThreshold = 50;
+
+            /**
+             * 느린 호출 비율(%)이 이 값 이상이면 서킷 오픈
+             */
+            private float slowCallRateThreshold = 80;
+
+            /**
+             * 이 시간보다 오래 걸린 호출은 느린 호출로 집계
+             */
+            private Duration slowCallDuration = Duration.ofSeconds(2);
+
+            /**
+             * 실패율을 계산할 최근 호출 수
+             */
+            private int slidingWindowSize = 100;
+
+            /**
+             * 실패율 계산에 필요한 최소 호출 수
+             */
+            private int minimumNumberOfCalls = 20;
+
+            /**
+             * 서킷 오픈 후 half-open으로 전환하기까지의 시간
+             */
+            private Duration waitInOpenState = Duration.ofSeconds(10);
+        }
+
+        @Data
+        public static class Bulkhead {
+            /**
+             * 메서드별 기본 최대 동시 호출 수
+             */
+            private int maxConcurrentCalls = 50;
+
+            /**
+             * 메서드별 최대 동시 호출 수 (예: getAllUsers: 2)
+             */
+            private Map<String, Integer> methods = new LinkedHashMap<>();
+        }
+
+        @Data
+        public static class Limiter {
+            private int initialLimit = 50;
+            private int minLimit = 5;
+            private int maxLimit = 200;
+
+            /**
+             * 느린 응답/실패 시 한도에 곱하는 비율
+             */
+            private double backoffRatio = 0.9;
+
+            /**
+             * 이 시간보다 느린 응답은 과부하 신호로 보고 한도를 줄임
+             */
+            private Duration latencyThreshold = Duration.ofMillis(500);
+        }
+
+        @Data
+        public static class Fallback {
+            /**
+             * getUserById 실패 시 대체 응답 (NONE / CACHED / PARTIAL)
+             */
+            private FallbackUserClient.Mode mode = FallbackUserClient.Mode.NONE;
+
+            /**
+             * CACHED 모드에서 보관할 마지막 조회 결과 수
+             */
+            private long maxEntries = 10_000;
+        }
+    }
+
+    @Data
+    public static class Hedging {
+        /**
+         * 읽기 전용 메서드(getUserById, getAllUsers)에 헤지 요청 사용 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 최근 응답 시간의 이 percentile이 지나도 응답이 없으면 헤지 요청을 보냄
+         */
+        private double percentile = 0.95;
+
+        /**
+         * 헤지 지연 시간의 최솟값 (응답 시간 데이터가 없을 때의 기본값)
+         */
+        private Duration minDelay = Duration.ofMillis(50);
+
+        /**
+         * 헤지 요청이 전체 요청에서 차지할 수 있는 최대 비율
+         */
+        private double budgetRatio = 0.1;
+
+        /**
+         * 한 번에 몰아서 보낼 수 있는 최대 헤지 요청 수
+         */
+        private int maxBurst = 10;
+    }
+
+    @Data
+    public static class Retry {
+        /**
+         * 최대 시도 횟수 (첫 요청 포함)
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 재시도 대기 시간의 최솟값 (decorrelated jitter의 기준값)
+         */
+        private Duration baseDelay = Duration.ofMillis(100);
+
+        /**
+         * 재시도 대기 시간의 최댓값
+         */
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+        /**
+         * 서버가 Retry-After로 이보다 오래 기다리라고 하면 재시도하지 않음
+         */
+        private Duration maxRetryAfter = Duration.ofSeconds(5);
+
+        /**
+         * 재시도가 전체 요청에서 차지할 수 있는 최대 비율 (재시도 예산)
+         */
+        private double budgetRatio = 0.1;
+
+        /**
+         * 한 번에 몰아서 보낼 수 있는 최대 재시도 수
+         */
+        private int maxBurst = 10;
+
+        /**
+         * 재시도할 응답 상태 코드 (연결/읽기 오류와 Retry-After가 있는 응답은 항상 재시도 대상)
+         */
+        private List<Integer> retryableStatuses = new ArrayList<>(List.of(429, 502, 503, 504));
+
+        /**
+         * POST지만 조회만 하므로 재시도해도 안전한 메서드 이름 (GET/HEAD/PUT/DELETE/OPTIONS는 항상 재시도 대상)
+         */
+        private List<String> idempotentMethods = new ArrayList<>(List.of("getUsersByIds"));
+    }
+
+    @Data
+    public static class Deadline {
+        /**
+         * 요청 처리 기한을 User Service 호출의 타임아웃과 X-Request-Timeout 헤더로 전달할지 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * /api/orders 요청에 X-Request-Timeout 헤더가 없을 때 적용할 처리 기한
+         */
+        private Duration defaultTimeout = Duration.ofSeconds(5);
+
+        /**
+         * X-Request-Timeout 헤더로 받을 수 있는 최대 처리 기한 (더 길면 이 값으로 줄임)
+         */
+        private Duration maxTimeout = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class LoadBalancer {
+        /**
+         * 여러 User Service 인스턴스에 요청을 분산할지 여부
+         * 사용하면 user.service.url의 호스트 대신 instances 중 하나로 요청을 보냅니다.
+         */
+        private boolean enabled = false;
+
+        /**
+         * User Service 인스턴스 목록 (예: http://localhost:8080)
+         */
+        private List<String> instances = new ArrayList<>();
+
+        /**
+         * 응답 시간 EWMA의 감쇠 시간 (이 시간이 지난 측정값의 가중치는 약 1/e)
+         */
+        private Duration decay = Duration.ofSeconds(10);
+
+        /**
+         * 제외되었다가 복귀한 인스턴스가 전체 가중치를 받기까지 걸리는 시간 (0이면 사용 안함)
+         */
+        private Duration slowStart = Duration.ofSeconds(30);
+
+        private final OutlierDetection outlierDetection = new OutlierDetection();
+
+        @Data
+        public static class OutlierDetection {
+            /**
+             * 이 횟수만큼 연속으로 실패(연결 오류, 502/503)하면 인스턴스를 일시적으로 제외
+             */
+            private int consecutiveFailures = 5;
+
+            /**
+             * 기본 제외 시간 (제외될 때마다 배수로 늘어나며 maxEjectionTime을 넘지 않음)
+             */
+            private Duration baseEjectionTime = Duration.ofSeconds(30);
+
+            /**
+             * 최대 제외 시간
+             */
+            private Duration maxEjectionTime = Duration.ofMinutes(5);
+
+            /**
+             * 동시에 제외할 수 있는 인스턴스의 최대 비율(%)
+             */
+            private int maxEjectionPercent = 50;
+        }
+    }
+
+    @Data
+    public static class Logging {
+        /**
+         * Feign 요청 로그 방식
+         * - FULL: Feign 기본 로거 (모든 요청/응답을 동기로 기록)
+         * - SAMPLED: 오류/느린 요청/샘플링된 요청만 전체 기록, 나머지는 한 줄 요약 (비동기)
+         */
+        private Mode mode = Mode.FULL;
+
+        public enum Mode { FULL, SAMPLED }
+
+        /**
+         * SAMPLED 모드에서 전체 로그를 남길 요청 비율 (0.0 ~ 1.0)
+         */
+        private double sampleRate = 0.01;
+
+        /**
+         * 이 시간 이상 걸린 요청은 전체 로그를 남김
+         */
+        private Duration slowThreshold = Duration.ofSeconds(1);
+
+        /**
+         * 비동기 로그 큐 크기 (가득 차면 로그를 버림)
+         */
+        private int queueCapacity = 10_000;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.openfeign.order.config;
+
+import com.example.openfeign.common.UserChangeTransport;
+import com.example.openfeign.order.client.RestUserClient;
+import com.example.openfeign.order.client.replica.UserReplica;
+import com.example.openfeign.order.client.replica.UserReplicaSynchronizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 사용자 복제본 설정 (user.client.replica.enabled=true, rest 프로필)
+ * UserClientConfig가 UserReplica 빈이 있으면 ReplicatedUserClient로 감쌉니다.
+ *
+ * 사용법:
+ * --user.client.replica.enabled=true
+ * --user.client.replica.mode=push (UserChangeTransport 빈 필요, 기본값은 poll)
+ *
+ * 확인: /actuator/metrics/user.client.replica.requests, user.client.replica.events, user.client.replica.version
+ */
+@Configuration
+@Profile("rest")
+@ConditionalOnProperty(name = "user.client.replica.enabled", havingValue = "true")
+public class UserReplicaConfig {
+
+    @Bean
+    public UserReplica userReplica(MeterRegistry meterRegistry) {
+        return new UserReplica(meterRegistry);
+    }
+
+    @Bean
+    public UserReplicaSynchronizer userReplicaSynchronizer(UserReplica userReplica,
+                                                           RestUserClient restUserClient,
+                                                           ObjectProvider<UserChangeTransport> transport,
+                                                           UserClientProperties properties,
+                                                           MeterRegistry meterRegistry) {
+        UserReplicaSynchronizer synchronizer = new UserReplicaSynchronizer(userReplica, restUserClient,
+            transport.getIfAvailable(), properties.getReplica(), meterRegistry);
+        synchronizer.start();
+        return synchronizer;
+    }
+}
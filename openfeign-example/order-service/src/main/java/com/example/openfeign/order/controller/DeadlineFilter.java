@@ -0,0 +1,46 @@
+package com.example.openfeign.order.controller;
+
+import com.example.openfeign.common.Deadline;
+import com.example.openfeign.order.config.UserClientProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * /api/orders 요청에 처리 기한(Deadline)을 붙이는 필터
+ *
+ * X-Request-Timeout 헤더(남은 시간, 밀리초)가 있으면 그 값을(maxTimeout 이하), 없으면 defaultTimeout을 사용합니다.
+ * 요청 스레드에서 하는 User Service 호출은 DeadlineClient가 남은 시간으로 타임아웃을 줄이고 헤더로 전달합니다.
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final UserClientProperties.Deadline properties;
+
+    public DeadlineFilter(UserClientProperties.Deadline properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/orders");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Duration timeout = Deadline.parseHeader(request.getHeader(Deadline.HEADER));
+        if (timeout == null) {
+            timeout = properties.getDefaultTimeout();
+        } else if (timeout.compareTo(properties.getMaxTimeout()) > 0) {
+            timeout = properties.getMaxTimeout();
+        }
+        try (Deadline.Scope ignored = Deadline.after(timeout).attach()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -1,27 +1,75 @@
 package com.example.openfeign.order.controller;
 
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.order.domain.BulkOrderResponse;
 import com.example.openfeign.order.domain.Order;
 import com.example.openfeign.order.service.OrderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
 public class OrderController {
 
+    /**
+     * 페이지 조회 시 한 번에 돌려줄 수 있는 최대 주문 수
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * 일괄 생성 한 번에 받을 수 있는 최대 주문 수
+     */
+    private static final int MAX_BULK_SIZE = 10_000;
+
     private final OrderService orderService;
 
+    /**
+     * 주문 조회 (사용자 정보는 주문 조회 모델의 스냅샷)
+     *
+     * @param live true면 사용자 정보를 User Service에서 조회
+     */
     @GetMapping("/{id}")
-    public Order getOrderById(@PathVariable Long id) {
-        return orderService.getOrderById(id);
+    public Order getOrderById(@PathVariable Long id,
+                              @RequestParam(defaultValue = "false") boolean live) {
+        return orderService.getOrderById(id, live);
     }
 
     @GetMapping
-    public List<Order> getAllOrders() {
-        return orderService.getAllOrders();
+    public List<Order> getAllOrders(@RequestParam(defaultValue = "false") boolean live) {
+        return orderService.getAllOrders(live);
+    }
+
+    /**
+     * 주문 목록 페이지 조회 (주문 ID 순)
+     *
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param limit 페이지 크기 (최대 MAX_PAGE_SIZE)
+     * @param live  true면 사용자 정보를 User Service에서 조회
+     */
+    @GetMapping("/page")
+    public CursorPage<Order> getOrdersPage(@RequestParam(required = false) Long after,
+                                           @RequestParam(defaultValue = "100") int limit,
+                                           @RequestParam(defaultValue = "false") boolean live) {
+        return orderService.getOrdersPage(after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)), live);
+    }
+
+    /**
+     * 비동기 조회 - 사용자 정보를 기다리는 동안 Tomcat 스레드를 반환합니다.
+     */
+    @GetMapping("/async/{id}")
+    public CompletableFuture<Order> getOrderByIdAsync(@PathVariable Long id) {
+        return orderService.getOrderByIdAsync(id);
+    }
+
+    @GetMapping("/async")
+    public CompletableFuture<List<Order>> getAllOrdersAsync() {
+        return orderService.getAllOrdersAsync();
     }
 
     @GetMapping("/user/{userId}")
@@ -33,4 +81,17 @@ public class OrderController {
     public Order createOrder(@RequestBody Order order) {
         return orderService.createOrder(order);
     }
+
+    /**
+     * 일괄 주문 생성
+     * 사용자 검증을 묶음 단위로 처리하며, 항목별 결과(CREATED/INVALID/USER_NOT_FOUND/FAILED)를 요청 순서대로 돌려줍니다.
+     */
+    @PostMapping("/bulk")
+    public BulkOrderResponse createOrders(@RequestBody List<Order> orders) {
+        if (orders.size() > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                "Too many orders: " + orders.size() + " (max " + MAX_BULK_SIZE + ")");
+        }
+        return orderService.createOrders(orders);
+    }
 }
@@ -0,0 +1,20 @@
+package com.example.openfeign.order.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 주문 생성 응답
+ * 일부 항목이 실패해도 나머지는 저장되며, 항목별 결과는 요청 순서대로 results에 담깁니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderResponse {
+    private int created;
+    private int failed;
+    private List<BulkOrderResult> results;
+}
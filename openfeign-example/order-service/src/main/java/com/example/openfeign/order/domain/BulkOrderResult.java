@@ -0,0 +1,27 @@
+package com.example.openfeign.order.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 주문 생성의 항목별 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderResult {
+
+    public enum Status {
+        CREATED,        // 저장됨
+        INVALID,        // 주문 ID/사용자 ID 누락 또는 요청 안에서 주문 ID 중복
+        USER_NOT_FOUND, // 사용자가 존재하지 않음
+        FAILED          // 사용자 조회 실패 (User Service 오류 등), 다시 시도할 수 있음
+    }
+
+    private int index;      // 요청 목록에서의 위치
+    private Long orderId;
+    private Status status;
+    private String message; // 실패 사유 (성공 시 null)
+    private Order order;    // 저장된 주문 (성공 시)
+}
@@ -0,0 +1,198 @@
+package com.example.openfeign.order.repository;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.order.domain.Order;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주문 저장소
+ *
+ * - orders: 주문 ID 순으로 정렬된 본 저장소 (커서 기반 페이지 조회)
+ * - ordersByUserId: 사용자 ID → 그 사용자의 주문 배열 (주문 ID 순) 보조 인덱스
+ *   사용자별 조회는 해시 조회 한 번과 배열 복사로 끝나므로 전체 주문 수가 아닌 해당 사용자의 주문 수에 비례합니다.
+ *   배열은 쓸 때마다 새로 만들어 교체(copy-on-write)하므로 읽는 쪽은 락이 필요 없습니다.
+ *
+ * 두 구조를 함께 바꾸는 쓰기(save)는 writeLock으로 직렬화하고, 읽기는 락 없이 처리합니다.
+ * writeLock은 synchronized가 아닌 ReentrantLock이므로 가상 스레드가 기다려도 캐리어 스레드를 점유하지 않습니다.
+ * 저장 직후 아주 짧은 순간에는 본 저장소에만 보이고 인덱스에는 아직 없을 수 있습니다.
+ */
+@Repository
+public class OrderRepository {
+
+    private final ConcurrentSkipListMap<Long, Order> orders = new ConcurrentSkipListMap<>();
+    private final Map<Long, Order[]> ordersByUserId = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * ID로 조회 (없으면 null)
+     */
+    public Order findById(Long id) {
+        return orders.get(id);
+    }
+
+    /**
+     * 전체 주문 (ID 순)
+     */
+    public List<Order> findAll() {
+        return new ArrayList<>(orders.values());
+    }
+
+    /**
+     * 특정 사용자의 주문 (ID 순)
+     */
+    public List<Order> findByUserId(Long userId) {
+        Order[] userOrders = ordersByUserId.get(userId);
+        return userOrders == null ? new ArrayList<>() : new ArrayList<>(Arrays.asList(userOrders));
+    }
+
+    /**
+     * after 다음 ID부터 최대 limit개 조회
+     * 뒤에 주문이 더 남아 있을 때만 nextCursor를 채웁니다.
+     */
+    public CursorPage<Order> findPage(Long after, int limit) {
+        Iterator<Order> iterator = (after == null ? orders : orders.tailMap(after, false)).values().iterator();
+        List<Order> items = new ArrayList<>(Math.min(limit, 256));
+        while (items.size() < limit && iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        Long nextCursor = iterator.hasNext() && !items.isEmpty() ? items.get(items.size() - 1).getId() : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    /**
+     * 저장 (같은 ID가 있으면 덮어쓰고, 사용자가 바뀌었으면 인덱스도 옮김)
+     */
+    public Order save(Order order) {
+        Long id = Objects.requireNonNull(order.getId(), "id");
+        Long userId = Objects.requireNonNull(order.getUserId(), "userId");
+
+        writeLock.lock();
+        try {
+            unindexPrevious(orders.put(id, order), order);
+            ordersByUserId.put(userId, with(ordersByUserId.get(userId), order));
+            return order;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 여러 주문을 한 번에 저장
+     * 락을 한 번만 잡고, 사용자별 인덱스 배열도 사용자마다 한 번만 새로 만듭니다.
+     * 같은 주문 ID가 여러 번 있으면 마지막 주문이 저장됩니다.
+     */
+    public void saveAll(Collection<Order> newOrders) {
+        Map<Long, Order> distinct = new LinkedHashMap<>();
+        for (Order order : newOrders) {
+            distinct.put(Objects.requireNonNull(order.getId(), "id"), order);
+        }
+
+        writeLock.lock();
+        try {
+            Map<Long, List<Order>> added = new HashMap<>();
+            for (Order order : distinct.values()) {
+                Objects.requireNonNull(order.getUserId(), "userId");
+                unindexPrevious(orders.put(order.getId(), order), order);
+                added.computeIfAbsent(order.getUserId(), key -> new ArrayList<>()).add(order);
+            }
+
+            added.forEach((userId, userOrders) -> {
+                TreeMap<Long, Order> merged = new TreeMap<>();
+                Order[] existing = ordersByUserId.get(userId);
+                if (existing != null) {
+                    for (Order order : existing) {
+                        merged.put(order.getId(), order);
+                    }
+                }
+                for (Order order : userOrders) {
+                    merged.put(order.getId(), order);
+                }
+                ordersByUserId.put(userId, merged.values().toArray(Order[]::new));
+            });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int count() {
+        return orders.size();
+    }
+
+    /**
+     * 덮어쓴 주문의 사용자가 바뀌었으면 이전 사용자의 인덱스에서 제거
+     */
+    private void unindexPrevious(Order previous, Order order) {
+        if (previous == null || previous.getUserId().equals(order.getUserId())) {
+            return;
+        }
+        Order[] remaining = without(ordersByUserId.get(previous.getUserId()), previous.getId());
+        if (remaining.length == 0) {
+            ordersByUserId.remove(previous.getUserId());
+        } else {
+            ordersByUserId.put(previous.getUserId(), remaining);
+        }
+    }
+
+    /**
+     * 주문 ID 순서를 유지하며 추가한 새 배열 (같은 ID가 있으면 교체)
+     */
+    private static Order[] with(Order[] userOrders, Order order) {
+        if (userOrders == null) {
+            return new Order[]{order};
+        }
+        int index = indexOf(userOrders, order.getId());
+        if (index >= 0) {
+            Order[] copy = userOrders.clone();
+            copy[index] = order;
+            return copy;
+        }
+        int insertAt = -index - 1;
+        Order[] copy = new Order[userOrders.length + 1];
+        System.arraycopy(userOrders, 0, copy, 0, insertAt);
+        copy[insertAt] = order;
+        System.arraycopy(userOrders, insertAt, copy, insertAt + 1, userOrders.length - insertAt);
+        return copy;
+    }
+
+    private static Order[] without(Order[] userOrders, Long id) {
+        int index = indexOf(userOrders, id);
+        Order[] copy = new Order[userOrders.length - 1];
+        System.arraycopy(userOrders, 0, copy, 0, index);
+        System.arraycopy(userOrders, index + 1, copy, index, userOrders.length - index - 1);
+        return copy;
+    }
+
+    /**
+     * ID로 이진 탐색 (없으면 -(삽입 위치) - 1)
+     */
+    private static int indexOf(Order[] userOrders, Long id) {
+        int low = 0;
+        int high = userOrders.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compare = userOrders[mid].getId().compareTo(id);
+            if (compare < 0) {
+                low = mid + 1;
+            } else if (compare > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+}
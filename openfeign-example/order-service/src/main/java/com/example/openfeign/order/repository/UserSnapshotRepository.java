@@ -0,0 +1,131 @@
+package com.example.openfeign.order.repository;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeEvent;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 조회 모델의 사용자 스냅샷 저장소
+ *
+ * 사용자 ID마다 스냅샷 하나를 두고, 그 사용자의 주문들이 같은 스냅샷을 공유합니다.
+ * 사용자 정보가 바뀌면 주문 수와 관계없이 스냅샷 하나만 교체하면 됩니다.
+ *
+ * 스냅샷에는 User Service에서 받은 시각(capturedAtNanos)을 함께 저장하며, 나이는 그 시각부터 잽니다.
+ * 사용자 버전이 있으면 더 오래된 버전으로 덮어쓰지 않습니다 (같은 버전이면 받은 시각만 갱신).
+ *
+ * 삭제 이벤트나 주기적 재조회(remove)로 지운 사용자는 삭제 버전을 잠시 기록(tombstone)하고, 그보다 새 버전이 아니면 다시 저장하지 않습니다.
+ * 삭제 전에 시작한 조회(주기적 재조회 등)의 결과가 늦게 도착해도 지운 스냅샷이 되살아나지 않습니다.
+ * 삭제 기록은 findOlderThan(주기적 재조회)에서 minAgeNanos가 지난 것부터 정리합니다.
+ */
+@Repository
+public class UserSnapshotRepository {
+
+    private final Map<Long, UserSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, Tombstone> tombstones = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 스냅샷 (없으면 null)
+     */
+    public UserSnapshot find(Long userId) {
+        return snapshots.get(userId);
+    }
+
+    /**
+     * 방금 받은 사용자 정보로 스냅샷 저장
+     */
+    public void save(User user) {
+        Tombstone tombstone = tombstones.get(user.getId());
+        if (tombstone != null) {
+            if (user.getVersion() == null || user.getVersion() <= tombstone.version()) {
+                return;
+            }
+            tombstones.remove(user.getId(), tombstone);
+        }
+        UserSnapshot captured = new UserSnapshot(user, System.nanoTime());
+        snapshots.merge(user.getId(), captured, (existing, latest) -> isOlder(latest.user(), existing.user()) ? existing : latest);
+    }
+
+    /**
+     * 변경 이벤트 적용 (스냅샷이 있는 사용자만, 주문이 없는 사용자는 저장하지 않음)
+     *
+     * @return 스냅샷을 바꿨으면 true
+     */
+    public boolean apply(UserChangeEvent event) {
+        if (!snapshots.containsKey(event.getUserId())) {
+            return false;
+        }
+        if (event.getType() == UserChangeEvent.Type.DELETED) {
+            tombstones.put(event.getUserId(), new Tombstone(event.getVersion(), System.nanoTime()));
+            return snapshots.remove(event.getUserId()) != null;
+        }
+        save(event.getUser());
+        return true;
+    }
+
+    /**
+     * User Service에 없는 사용자의 스냅샷 삭제 (주기적 재조회)
+     * 삭제 이벤트와 같이 tombstone을 남기며, 삭제 버전을 모르므로 마지막으로 받은 버전을 씁니다 (버전이 없으면 정리될 때까지 저장하지 않음).
+     */
+    public void remove(Long userId) {
+        UserSnapshot removed = snapshots.remove(userId);
+        if (removed == null) {
+            return;
+        }
+        Long version = removed.user().getVersion();
+        tombstones.merge(userId, new Tombstone(version != null ? version : Long.MAX_VALUE, System.nanoTime()),
+            (existing, latest) -> existing.version() >= latest.version() ? existing : latest);
+    }
+
+    /**
+     * 받은 지 minAgeNanos 이상 지난 스냅샷의 사용자 ID
+     */
+    public List<Long> findOlderThan(long minAgeNanos) {
+        long now = System.nanoTime();
+        tombstones.values().removeIf(tombstone -> now - tombstone.deletedAtNanos() >= minAgeNanos);
+        List<Long> userIds = new ArrayList<>();
+        snapshots.forEach((userId, snapshot) -> {
+            if (snapshot.ageNanos(now) >= minAgeNanos) {
+                userIds.add(userId);
+            }
+        });
+        return userIds;
+    }
+
+    /**
+     * 가장 오래된 스냅샷의 나이 (없으면 0)
+     */
+    public long oldestAgeNanos() {
+        long now = System.nanoTime();
+        long oldest = 0;
+        for (UserSnapshot snapshot : snapshots.values()) {
+            oldest = Math.max(oldest, snapshot.ageNanos(now));
+        }
+        return oldest;
+    }
+
+    public int count() {
+        return snapshots.size();
+    }
+
+    private static boolean isOlder(User user, User than) {
+        return user.getVersion() != null && than.getVersion() != null && user.getVersion() < than.getVersion();
+    }
+
+    /**
+     * 삭제 이벤트의 버전과 적용한 시각
+     */
+    private record Tombstone(long version, long deletedAtNanos) {
+    }
+
+    public record UserSnapshot(User user, long capturedAtNanos) {
+
+        public long ageNanos(long nowNanos) {
+            return nowNanos - capturedAtNanos;
+        }
+    }
+}
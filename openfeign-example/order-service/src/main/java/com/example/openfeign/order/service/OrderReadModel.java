@@ -0,0 +1,174 @@
+package com.example.openfeign.order.service;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.UserClient;
+import com.example.openfeign.order.config.OrderReadModelProperties;
+import com.example.openfeign.order.domain.Order;
+import com.example.openfeign.order.repository.UserSnapshotRepository;
+import com.example.openfeign.order.repository.UserSnapshotRepository.UserSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 조회 모델 - 주문에 사용자 정보를 채울 때 User Service 대신 사용자 스냅샷(UserSnapshotRepository)을 사용
+ *
+ * - 주문 생성/일괄 생성 시 확인한 사용자 정보를 스냅샷으로 저장
+ * - 조회 시 스냅샷이 있고 maxStaleness보다 새것이면 그대로 사용 (User Service 호출 없음)
+ * - 스냅샷이 없거나 너무 오래됐거나 live 조회를 요청하면 User Service에서 가져와(OrderUserEnricher) 스냅샷도 갱신
+ * - 스냅샷은 OrderReadModelRefresher가 변경 이벤트와 주기적 재조회로 백그라운드에서 갱신
+ *
+ * 스냅샷 나이는 UserClient로 받은 시각부터 잽니다. near-cache(user.client.cache)를 거친 값이면
+ * 실제 데이터는 최대 cache.ttl만큼 더 오래됐을 수 있습니다.
+ *
+ * 메트릭:
+ * - order.read.model.reads{result=snapshot|missing|expired|live}: 주문 단위 조회 결과
+ * - order.read.model.staleness: 조회에 사용한 스냅샷의 나이 (percentile 히스토그램)
+ * - order.read.model.snapshots, order.read.model.oldest.snapshot (초)
+ */
+@Component
+public class OrderReadModel {
+
+    private final UserClient userClient;
+    private final OrderUserEnricher orderUserEnricher;
+    private final UserSnapshotRepository snapshots;
+    private final boolean enabled;
+    private final long maxStalenessNanos;
+
+    private final Counter snapshotReads;
+    private final Counter missingReads;
+    private final Counter expiredReads;
+    private final Counter liveReads;
+    private final Timer staleness;
+
+    public OrderReadModel(UserClient userClient,
+                          OrderUserEnricher orderUserEnricher,
+                          UserSnapshotRepository snapshots,
+                          OrderReadModelProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.userClient = userClient;
+        this.orderUserEnricher = orderUserEnricher;
+        this.snapshots = snapshots;
+        this.enabled = properties.isEnabled();
+        this.maxStalenessNanos = properties.getMaxStaleness().toNanos();
+
+        this.snapshotReads = readCounter(meterRegistry, "snapshot");
+        this.missingReads = readCounter(meterRegistry, "missing");
+        this.expiredReads = readCounter(meterRegistry, "expired");
+        this.liveReads = readCounter(meterRegistry, "live");
+        this.staleness = Timer.builder("order.read.model.staleness")
+            .description("Age of user snapshots served with orders")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(properties.getMaxStaleness())
+            .register(meterRegistry);
+
+        Gauge.builder("order.read.model.snapshots", snapshots, UserSnapshotRepository::count)
+            .description("User snapshots held by the order read model")
+            .register(meterRegistry);
+        Gauge.builder("order.read.model.oldest.snapshot", snapshots,
+                repository -> repository.oldestAgeNanos() / 1e9)
+            .description("Age of the oldest user snapshot")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 주문 하나의 사용자 정보 채우기
+     *
+     * @param live true면 스냅샷과 관계없이 User Service에서 조회
+     */
+    public void enrich(Order order, boolean live) {
+        if (!enabled) {
+            order.setUser(userClient.getUserById(order.getUserId()));
+            return;
+        }
+        if (live) {
+            liveReads.increment();
+        } else if (fromSnapshot(order, System.nanoTime())) {
+            return;
+        }
+        User user = userClient.getUserById(order.getUserId());
+        snapshots.save(user);
+        order.setUser(user);
+    }
+
+    /**
+     * 주문 목록의 사용자 정보 채우기
+     * 스냅샷으로 채우지 못한 주문만 모아서 OrderUserEnricher 모드(SERIAL/BATCH/PARALLEL)로 조회합니다.
+     *
+     * @param live true면 스냅샷과 관계없이 모두 User Service에서 조회
+     */
+    public void enrich(List<Order> orders, boolean live) {
+        if (!enabled) {
+            orderUserEnricher.enrich(orders);
+            return;
+        }
+
+        List<Order> misses = orders;
+        if (live) {
+            liveReads.increment(orders.size());
+        } else {
+            long now = System.nanoTime();
+            misses = new ArrayList<>();
+            for (Order order : orders) {
+                if (!fromSnapshot(order, now)) {
+                    misses.add(order);
+                }
+            }
+        }
+        if (misses.isEmpty()) {
+            return;
+        }
+
+        orderUserEnricher.enrich(misses);
+        for (Order order : misses) {
+            if (order.getUser() != null) {
+                snapshots.save(order.getUser());
+            }
+        }
+    }
+
+    /**
+     * 주문 생성 시 확인한 사용자 정보를 스냅샷으로 저장
+     */
+    public void record(User user) {
+        if (enabled) {
+            snapshots.save(user);
+        }
+    }
+
+    /**
+     * 쓸 수 있는 스냅샷이 있으면 주문에 채우고 true (없거나 maxStaleness보다 오래됐으면 false)
+     */
+    private boolean fromSnapshot(Order order, long now) {
+        UserSnapshot snapshot = snapshots.find(order.getUserId());
+        if (snapshot == null) {
+            missingReads.increment();
+            return false;
+        }
+        long age = snapshot.ageNanos(now);
+        if (age > maxStalenessNanos) {
+            expiredReads.increment();
+            return false;
+        }
+        order.setUser(snapshot.user());
+        snapshotReads.increment();
+        staleness.record(age, TimeUnit.NANOSECONDS);
+        return true;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("order.read.model.reads")
+            .description("Order reads by where the user data came from")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.openfeign.order.service;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeEvent;
+import com.example.openfeign.order.client.UserClient;
+import com.example.openfeign.order.client.replica.UserReplica;
+import com.example.openfeign.order.repository.UserSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주문 조회 모델의 사용자 스냅샷을 백그라운드에서 갱신
+ *
+ * 1. 변경 이벤트: 사용자 복제본(UserReplica)이 있으면 복제본에 적용된 이벤트로 스냅샷을 바로 교체/삭제 (User Service 호출 없음)
+ * 2. 주기적 재조회: refreshInterval의 절반마다 refreshInterval보다 오래된 스냅샷을 다시 읽음
+ *    - 복제본이 준비되어 있으면 복제본에서 읽음 (User Service 호출 없음)
+ *    - 아니면 batchSize 단위로 일괄 조회. near-cache에 남은 값을 다시 받지 않도록 데코레이터를 거치지 않는 userClient 사용
+ *    응답에 없는 사용자(삭제됨)의 스냅샷은 지우며, 실패한 묶음은 다음 주기에 다시 시도
+ *    조회 중에 삭제 이벤트가 적용되었으면 저장소가 삭제 기록(tombstone)으로 다시 저장하지 않음 (UserSnapshotRepository)
+ *
+ * 이벤트를 받지 못해도 스냅샷 나이는 대체로 refreshInterval의 1.5배 안에 머물고,
+ * 재조회가 계속 실패하면 조회 시 maxStaleness를 넘은 스냅샷부터 User Service에서 다시 가져옵니다 (OrderReadModel).
+ *
+ * 메트릭: order.read.model.refreshes{trigger=event|sweep}, order.read.model.refresh.failures
+ */
+@Slf4j
+public class OrderReadModelRefresher implements AutoCloseable {
+
+    private final UserSnapshotRepository snapshots;
+    private final UserClient userClient;
+    private final UserReplica replica;
+    private final Duration refreshInterval;
+    private final int batchSize;
+    private final Counter eventRefreshes;
+    private final Counter sweepRefreshes;
+    private final Counter failures;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * @param userClient 주기적 재조회에 사용할, 데코레이터(near-cache 등)를 거치지 않는 UserClient
+     * @param replica    변경 이벤트를 받을 사용자 복제본 (없으면 null, 주기적 재조회만 함)
+     */
+    public OrderReadModelRefresher(UserSnapshotRepository snapshots,
+                                   UserClient userClient,
+                                   UserReplica replica,
+                                   Duration refreshInterval,
+                                   int batchSize,
+                                   MeterRegistry meterRegistry) {
+        this.snapshots = snapshots;
+        this.userClient = userClient;
+        this.replica = replica;
+        this.refreshInterval = refreshInterval;
+        this.batchSize = batchSize;
+        this.eventRefreshes = refreshCounter(meterRegistry, "event");
+        this.sweepRefreshes = refreshCounter(meterRegistry, "sweep");
+        this.failures = Counter.builder("order.read.model.refresh.failures")
+            .description("Failed user snapshot refresh batches")
+            .register(meterRegistry);
+    }
+
+    public void start() {
+        running = true;
+        if (replica != null) {
+            replica.addListener(this::onUserChange);
+        }
+        worker = Thread.ofVirtual().name("order-read-model-refresh").start(this::run);
+    }
+
+    private void onUserChange(UserChangeEvent event) {
+        if (snapshots.apply(event)) {
+            eventRefreshes.increment();
+        }
+    }
+
+    private void run() {
+        long periodMillis = Math.max(1, refreshInterval.toMillis() / 2);
+        while (running) {
+            try {
+                Thread.sleep(periodMillis);
+                refreshStale();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * refreshInterval보다 오래된 스냅샷을 batchSize 단위 일괄 조회로 갱신
+     */
+    void refreshStale() {
+        List<Long> userIds = snapshots.findOlderThan(refreshInterval.toNanos());
+        if (replica != null && replica.isReady()) {
+            refreshFromReplica(userIds);
+            return;
+        }
+        for (int from = 0; from < userIds.size() && running; from += batchSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + batchSize, userIds.size()));
+            try {
+                Set<Long> found = new HashSet<>();
+                for (User user : userClient.getUsersByIds(chunk)) {
+                    snapshots.save(user);
+                    found.add(user.getId());
+                }
+                for (Long userId : chunk) {
+                    if (!found.contains(userId)) {
+                        snapshots.remove(userId);
+                    }
+                }
+                sweepRefreshes.increment(found.size());
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Failed to refresh {} user snapshots: {}", chunk.size(), e.toString());
+            }
+        }
+    }
+
+    /**
+     * 복제본은 변경 이벤트로 최신 상태이므로 복제본 값으로 스냅샷을 다시 저장 (복제본에 없으면 삭제된 사용자)
+     */
+    private void refreshFromReplica(List<Long> userIds) {
+        int refreshed = 0;
+        for (Long userId : userIds) {
+            User user = replica.get(userId);
+            if (user != null) {
+                snapshots.save(user);
+                refreshed++;
+            } else {
+                snapshots.remove(userId);
+            }
+        }
+        sweepRefreshes.increment(refreshed);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String trigger) {
+        return Counter.builder("order.read.model.refreshes")
+            .description("User snapshots refreshed in the order read model")
+            .tag("trigger", trigger)
+            .register(meterRegistry);
+    }
+}
@@ -1,62 +1,155 @@
 package com.example.openfeign.order.service;
 
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.Deadline;
 import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.AsyncUserClient;
 import com.example.openfeign.order.client.UserClient;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.example.openfeign.order.domain.BulkOrderResponse;
+import com.example.openfeign.order.domain.BulkOrderResult;
 import com.example.openfeign.order.domain.Order;
-import com.example.openfeign.common.User;
+import com.example.openfeign.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class OrderService {
 
     private final UserClient userClient;
-    private final Map<Long, Order> orderDatabase = new HashMap<>();
+    private final AsyncUserClient asyncUserClient;
+    private final OrderReadModel orderReadModel;
+    private final OrderRepository orderRepository;
+    private final int batchSize;
+    private final int maxConcurrency;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
 
-    public OrderService(UserClient userClient) {
+    public OrderService(UserClient userClient,
+                        AsyncUserClient asyncUserClient,
+                        OrderReadModel orderReadModel,
+                        OrderRepository orderRepository,
+                        UserClientProperties properties) {
         this.userClient = userClient;
+        this.asyncUserClient = asyncUserClient;
+        this.orderReadModel = orderReadModel;
+        this.orderRepository = orderRepository;
+        this.batchSize = properties.getBatchSize();
+        this.maxConcurrency = properties.getEnrichment().getMaxConcurrency();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
     }
 
     @PostConstruct
     public void init() {
         // 초기 주문 데이터
-        orderDatabase.put(1L, new Order(1L, 1L, "노트북", 1, 1500000.0, null));
-        orderDatabase.put(2L, new Order(2L, 2L, "마우스", 2, 30000.0, null));
-        orderDatabase.put(3L, new Order(3L, 1L, "키보드", 1, 120000.0, null));
+        orderRepository.save(new Order(1L, 1L, "노트북", 1, 1500000.0, null));
+        orderRepository.save(new Order(2L, 2L, "마우스", 2, 30000.0, null));
+        orderRepository.save(new Order(3L, 1L, "키보드", 1, 120000.0, null));
     }
 
     /**
-     * 주문 정보 조회 - Feign으로 사용자 정보도 함께 가져옴
+     * 주문 정보 조회 - 사용자 정보는 주문 조회 모델의 스냅샷으로 채움 (OrderReadModel)
+     *
+     * @param live true면 스냅샷 대신 Feign으로 사용자 정보를 조회
      */
-    public Order getOrderById(Long id) {
-        Order order = orderDatabase.get(id);
+    public Order getOrderById(Long id, boolean live) {
+        Order order = orderRepository.findById(id);
         if (order == null) {
             throw new RuntimeException("Order not found: " + id);
         }
 
-        // Feign Client를 사용하여 사용자 정보 조회
-        User user = userClient.getUserById(order.getUserId());
-        order.setUser(user);
-
+        orderReadModel.enrich(order, live);
         return order;
     }
 
     /**
      * 모든 주문 조회 - 각 주문에 사용자 정보 포함
+     * 스냅샷으로 채우지 못한 주문은 OrderUserEnricher의 모드(SERIAL/BATCH/PARALLEL)로 조회합니다.
      */
-    public List<Order> getAllOrders() {
-        return orderDatabase.values().stream()
-            .map(order -> {
-                User user = userClient.getUserById(order.getUserId());
+    public List<Order> getAllOrders(boolean live) {
+        List<Order> orders = orderRepository.findAll();
+        orderReadModel.enrich(orders, live);
+        return orders;
+    }
+
+    /**
+     * 주문 목록 페이지 조회 (주문 ID 순)
+     * 페이지에 포함된 주문만 사용자 정보를 채웁니다.
+     */
+    public CursorPage<Order> getOrdersPage(Long after, int limit, boolean live) {
+        CursorPage<Order> page = orderRepository.findPage(after, limit);
+        orderReadModel.enrich(page.getItems(), live);
+        return page;
+    }
+
+    /**
+     * 주문 정보 비동기 조회
+     * 사용자 정보 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+     */
+    public CompletableFuture<Order> getOrderByIdAsync(Long id) {
+        Order order = orderRepository.findById(id);
+        if (order == null) {
+            return CompletableFuture.failedFuture(new RuntimeException("Order not found: " + id));
+        }
+
+        return asyncUserClient.getUserByIdAsync(order.getUserId())
+            .thenApply(user -> {
                 order.setUser(user);
                 return order;
-            })
-            .collect(Collectors.toList());
+            });
+    }
+
+    /**
+     * 모든 주문 비동기 조회
+     * 고유 사용자 ID를 batchSize 단위로 나누어 일괄 조회 요청을 동시에 보냅니다.
+     */
+    public CompletableFuture<List<Order>> getAllOrdersAsync() {
+        List<Order> orders = orderRepository.findAll();
+        List<Long> ids = new ArrayList<>(orders.stream()
+            .map(Order::getUserId)
+            .collect(Collectors.toCollection(LinkedHashSet::new)));
+
+        List<CompletableFuture<List<User>>> chunks = new ArrayList<>();
+        for (List<Long> chunk : UserIdBatches.split(ids, batchSize)) {
+            chunks.add(asyncUserClient.getUsersByIdsAsync(chunk));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+            .thenApply(done -> {
+                Map<Long, User> users = new HashMap<>();
+                chunks.forEach(chunk -> chunk.join().forEach(user -> users.put(user.getId(), user)));
+
+                for (Order order : orders) {
+                    User user = users.get(order.getUserId());
+                    if (user == null) {
+                        throw new RuntimeException("User not found: " + order.getUserId());
+                    }
+                    order.setUser(user);
+                }
+                return orders;
+            });
     }
 
     /**
@@ -66,20 +159,113 @@ public class OrderService {
         // 먼저 사용자가 존재하는지 확인 (Feign으로 조회)
         User user = userClient.getUserById(userId);
 
-        return orderDatabase.values().stream()
-            .filter(order -> order.getUserId().equals(userId))
-            .peek(order -> order.setUser(user))
-            .collect(Collectors.toList());
+        // userId 인덱스로 해당 사용자의 주문만 조회
+        List<Order> orders = orderRepository.findByUserId(userId);
+        orders.forEach(order -> order.setUser(user));
+        return orders;
+    }
+
+    /**
+     * 일괄 주문 생성
+     *
+     * 1. 주문 ID/사용자 ID 누락, 요청 안의 주문 ID 중복 항목은 INVALID
+     * 2. 나머지 항목의 고유 사용자 ID를 batchSize 단위로 나누어 일괄 조회 (묶음들은 가상 스레드에서 최대 maxConcurrency개씩 동시에 조회)
+     * 3. 사용자가 확인된 주문만 한 번에 저장
+     *
+     * User Service 호출 수는 주문 수가 아니라 (고유 사용자 수 / batchSize)에 비례합니다.
+     * 조회에 실패한 묶음의 주문은 FAILED로, 나머지는 그대로 처리합니다 (부분 성공).
+     */
+    public BulkOrderResponse createOrders(List<Order> orders) {
+        List<BulkOrderResult> results = new ArrayList<>(orders.size());
+        Set<Long> orderIds = new HashSet<>();
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            BulkOrderResult result = new BulkOrderResult(i, order.getId(), null, null, null);
+            if (order.getId() == null || order.getUserId() == null) {
+                result.setStatus(BulkOrderResult.Status.INVALID);
+                result.setMessage("Order id and userId are required");
+            } else if (!orderIds.add(order.getId())) {
+                result.setStatus(BulkOrderResult.Status.INVALID);
+                result.setMessage("Duplicate order id in request: " + order.getId());
+            } else {
+                userIds.add(order.getUserId());
+            }
+            results.add(result);
+        }
+
+        Map<Long, User> users = new HashMap<>();
+        Map<Long, String> lookupFailures = new HashMap<>();
+        fetchUsersInChunks(new ArrayList<>(userIds), users, lookupFailures);
+
+        List<Order> valid = new ArrayList<>();
+        for (BulkOrderResult result : results) {
+            if (result.getStatus() != null) {
+                continue;
+            }
+            Order order = orders.get(result.getIndex());
+            User user = users.get(order.getUserId());
+            if (user != null) {
+                order.setUser(user);
+                orderReadModel.record(user);
+                valid.add(order);
+                result.setStatus(BulkOrderResult.Status.CREATED);
+                result.setOrder(order);
+            } else if (lookupFailures.containsKey(order.getUserId())) {
+                result.setStatus(BulkOrderResult.Status.FAILED);
+                result.setMessage(lookupFailures.get(order.getUserId()));
+            } else {
+                result.setStatus(BulkOrderResult.Status.USER_NOT_FOUND);
+                result.setMessage("User not found: " + order.getUserId());
+            }
+        }
+        orderRepository.saveAll(valid);
+
+        return new BulkOrderResponse(valid.size(), orders.size() - valid.size(), results);
+    }
+
+    /**
+     * 사용자 ID를 batchSize 단위로 나누어 동시에 일괄 조회 (동시 호출은 enrichment.max-concurrency개까지)
+     * 조회에 실패한 묶음의 ID는 실패 사유와 함께 failures에 담습니다.
+     */
+    private void fetchUsersInChunks(List<Long> ids, Map<Long, User> users, Map<Long, String> failures) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Map<List<Long>, Future<List<User>>> calls = new LinkedHashMap<>();
+        for (List<Long> chunk : UserIdBatches.split(ids, batchSize)) {
+            calls.put(chunk, executor.submit(Deadline.wrap(() -> {
+                permits.acquire();
+                try {
+                    return userClient.getUsersByIds(chunk);
+                } finally {
+                    permits.release();
+                }
+            })));
+        }
+
+        for (Map.Entry<List<Long>, Future<List<User>>> call : calls.entrySet()) {
+            try {
+                call.getValue().get().forEach(user -> users.put(user.getId(), user));
+            } catch (ExecutionException e) {
+                log.warn("Failed to fetch {} users: {}", call.getKey().size(), e.getCause().toString());
+                call.getKey().forEach(id -> failures.put(id, "User lookup failed: " + e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                calls.values().forEach(future -> future.cancel(true));
+                throw new RuntimeException("Interrupted while fetching users", e);
+            }
+        }
     }
 
     /**
      * 주문 생성
+     * 사용자 확인에는 대체 응답을 쓰지 않으며, 확인한 사용자 정보는 주문 조회 모델의 스냅샷으로 저장합니다.
      */
     public Order createOrder(Order order) {
         // Feign으로 사용자가 존재하는지 확인
-        User user = userClient.getUserById(order.getUserId());
+        User user = userClient.getExistingUserById(order.getUserId());
 
-        orderDatabase.put(order.getId(), order);
+        orderRepository.save(order);
+        orderReadModel.record(user);
         order.setUser(user);
         return order;
     }
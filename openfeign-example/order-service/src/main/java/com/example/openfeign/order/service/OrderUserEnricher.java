@@ -0,0 +1,161 @@
+package com.example.openfeign.order.service;
+
+import com.example.openfeign.common.Deadline;
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.UserClient;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.example.openfeign.order.domain.Order;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 목록에 사용자 정보를 채워 넣는 컴포넌트
+ *
+ * 모드 (user.client.enrichment.mode):
+ * - SERIAL: 주문마다 getUserById를 순차 호출 (기존 방식, 비교용)
+ * - BATCH: 고유 사용자 ID를 batchSize 단위로 묶어 일괄 조회 (기본값)
+ * - PARALLEL: 고유 사용자 ID마다 getUserById를 가상 스레드에서 동시 호출
+ *   - maxConcurrency: 한 번의 enrich에서 동시에 진행되는 최대 호출 수
+ *   - deadline: 전체 대기 시간, 초과한 호출은 취소 (요청 처리 기한이 더 짧으면 그 시간까지)
+ *   - 실패/시간 초과된 사용자의 주문은 user가 null인 채로 반환 (부분 실패 허용)
+ */
+@Slf4j
+@Component
+public class OrderUserEnricher {
+
+    public enum Mode { SERIAL, BATCH, PARALLEL }
+
+    private final UserClient userClient;
+    private final int batchSize;
+    private final UserClientProperties.Enrichment properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public OrderUserEnricher(UserClient userClient, UserClientProperties properties) {
+        this.userClient = userClient;
+        this.batchSize = properties.getBatchSize();
+        this.properties = properties.getEnrichment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 설정된 모드로 주문들의 사용자 정보 조회
+     */
+    public void enrich(List<Order> orders) {
+        switch (properties.getMode()) {
+            case SERIAL -> enrichSerially(orders);
+            case BATCH -> enrichInBatches(orders);
+            case PARALLEL -> enrichInParallel(orders);
+        }
+    }
+
+    private void enrichSerially(List<Order> orders) {
+        for (Order order : orders) {
+            order.setUser(userClient.getUserById(order.getUserId()));
+        }
+    }
+
+    /**
+     * 호출 횟수는 주문 수가 아니라 (고유 사용자 수 / batchSize)에 비례합니다.
+     */
+    private void enrichInBatches(List<Order> orders) {
+        List<Long> ids = new ArrayList<>(distinctUserIds(orders));
+        Map<Long, User> users = new HashMap<>();
+
+        for (List<Long> chunk : UserIdBatches.split(ids, batchSize)) {
+            for (User user : userClient.getUsersByIds(chunk)) {
+                users.put(user.getId(), user);
+            }
+        }
+
+        for (Order order : orders) {
+            User user = users.get(order.getUserId());
+            if (user == null) {
+                throw new RuntimeException("User not found: " + order.getUserId());
+            }
+            order.setUser(user);
+        }
+    }
+
+    private void enrichInParallel(List<Order> orders) {
+        Collection<Long> userIds = distinctUserIds(orders);
+        Semaphore permits = new Semaphore(properties.getMaxConcurrency());
+
+        Map<Long, Future<User>> calls = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            calls.put(userId, executor.submit(Deadline.wrap(() -> {
+                permits.acquire();
+                try {
+                    return userClient.getUserById(userId);
+                } finally {
+                    permits.release();
+                }
+            })));
+        }
+
+        Duration deadline = properties.getDeadline();
+        Deadline requestDeadline = Deadline.current();
+        if (requestDeadline != null && requestDeadline.remainingMillis() < deadline.toMillis()) {
+            deadline = Duration.ofMillis(requestDeadline.remainingMillis());
+        }
+        Map<Long, User> users = awaitAll(calls, deadline);
+        for (Order order : orders) {
+            order.setUser(users.get(order.getUserId()));
+        }
+
+        if (users.size() < userIds.size()) {
+            log.warn("Partial enrichment: resolved {} of {} users", users.size(), userIds.size());
+        }
+    }
+
+    /**
+     * deadline 안에 끝난 호출의 결과만 모으고, 나머지는 취소
+     */
+    private Map<Long, User> awaitAll(Map<Long, Future<User>> calls, Duration deadline) {
+        Map<Long, User> users = new HashMap<>();
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+
+        for (Map.Entry<Long, Future<User>> call : calls.entrySet()) {
+            long remaining = deadlineNanos - System.nanoTime();
+            try {
+                users.put(call.getKey(), call.getValue().get(Math.max(remaining, 0), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                call.getValue().cancel(true);
+            } catch (ExecutionException e) {
+                log.debug("Failed to fetch user {}: {}", call.getKey(), e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                calls.values().forEach(future -> future.cancel(true));
+                break;
+            }
+        }
+        return users;
+    }
+
+    private Collection<Long> distinctUserIds(List<Order> orders) {
+        return orders.stream()
+            .map(Order::getUserId)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
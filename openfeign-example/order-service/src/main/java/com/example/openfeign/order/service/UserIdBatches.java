@@ -0,0 +1,24 @@
+package com.example.openfeign.order.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 ID 목록을 일괄 조회(getUsersByIds) 단위로 나누는 도우미
+ */
+final class UserIdBatches {
+
+    private UserIdBatches() {
+    }
+
+    /**
+     * ids를 batchSize개씩 나눈 목록 (각 묶음은 ids의 subList)
+     */
+    static List<List<Long>> split(List<Long> ids, int batchSize) {
+        List<List<Long>> batches = new ArrayList<>((ids.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+        return batches;
+    }
+}
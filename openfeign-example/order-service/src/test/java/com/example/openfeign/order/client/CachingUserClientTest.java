@@ -0,0 +1,122 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.Deadline;
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserEtags;
+import com.example.openfeign.order.client.deadline.DeadlineExceededException;
+import com.example.openfeign.order.config.UserClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingUserClientTest {
+
+    @Test
+    void coldLoadsUsePlainCallsAndRefreshesRevalidate() throws InterruptedException {
+        UserClientProperties.Cache properties = new UserClientProperties.Cache();
+        properties.setRefreshAfter(Duration.ofMillis(50));
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountingUserClient delegate = new CountingUserClient();
+        CachingUserClient client = new CachingUserClient(delegate, properties, meterRegistry);
+
+        // 캐시 미스는 단건/일괄 조회로 (single-flight, 헤지 데코레이터를 거침)
+        assertThat(client.getUserById(1L).getId()).isEqualTo(1L);
+        assertThat(client.getUsersByIds(List.of(2L, 3L))).hasSize(2);
+        assertThat(delegate.getUserById.get()).isEqualTo(1);
+        assertThat(delegate.getUsersByIds.get()).isEqualTo(1);
+        assertThat(delegate.conditional.get()).isZero();
+
+        // 갱신은 단건/일괄 조회로 채운 항목 모두 조건부 조회로 304
+        Thread.sleep(100);
+        client.getUserById(1L);
+        client.getUserById(2L);
+        double notModified = 0;
+        for (int i = 0; i < 100 && notModified < 2; i++) {
+            Thread.sleep(20);
+            notModified = meterRegistry.get("user.client.cache.revalidations")
+                .tag("result", "not_modified").counter().count();
+        }
+        assertThat(notModified).isEqualTo(2);
+        assertThat(delegate.etags).allMatch(etag -> etag != null);
+    }
+
+    @Test
+    void sharedLoadIgnoresCallerDeadline() {
+        SlowUserClient delegate = new SlowUserClient();
+        CachingUserClient client = new CachingUserClient(delegate, new UserClientProperties.Cache(),
+            new SimpleMeterRegistry());
+
+        // 기한이 짧은 호출자만 포기하고, 조회는 기한 없이 계속되어 캐시를 채움
+        try (Deadline.Scope ignored = Deadline.after(Duration.ofMillis(20)).attach()) {
+            assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(DeadlineExceededException.class);
+        }
+        assertThat(client.getUserById(1L).getId()).isEqualTo(1L);
+        assertThat(delegate.getUserById.get()).isEqualTo(1);
+        assertThat(delegate.deadlines).containsOnlyNulls();
+    }
+
+    /**
+     * 응답 전에 잠시 대기하고, 조회를 실행한 스레드의 처리 기한을 기록하는 UserClient
+     */
+    static class SlowUserClient extends CountingUserClient {
+
+        final List<Deadline> deadlines = new CopyOnWriteArrayList<>();
+
+        @Override
+        public User getUserById(Long id) {
+            deadlines.add(Deadline.current());
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            return super.getUserById(id);
+        }
+    }
+
+    /**
+     * 호출 수를 세고, If-None-Match가 현재 ETag와 같으면 304를 돌려주는 UserClient
+     */
+    static class CountingUserClient extends StubUserClient {
+
+        final AtomicInteger getUserById = new AtomicInteger();
+        final AtomicInteger getUsersByIds = new AtomicInteger();
+        final AtomicInteger conditional = new AtomicInteger();
+        final List<String> etags = new ArrayList<>();
+
+        @Override
+        public User getUserById(Long id) {
+            getUserById.incrementAndGet();
+            return super.getUserById(id);
+        }
+
+        @Override
+        public List<User> getUsersByIds(List<Long> ids) {
+            getUsersByIds.incrementAndGet();
+            return super.getUsersByIds(ids);
+        }
+
+        @Override
+        public synchronized ResponseEntity<User> getUserByIdIfNoneMatch(Long id, String etag) {
+            conditional.incrementAndGet();
+            etags.add(etag);
+            User user = super.getUserById(id);
+            if (UserEtags.of(user).equals(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            return ResponseEntity.ok().eTag(UserEtags.of(user)).body(user);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.config.UserClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FallbackUserClientTest {
+
+    @Test
+    void existenceCheckDoesNotUsePartialFallback() {
+        UserClientProperties.Resilience.Fallback properties = new UserClientProperties.Resilience.Fallback();
+        properties.setMode(FallbackUserClient.Mode.PARTIAL);
+        FallbackUserClient client = new FallbackUserClient(new UnavailableUserClient(), properties,
+            new SimpleMeterRegistry());
+
+        assertThat(client.getUserById(1L).getName()).isNull();
+        assertThatThrownBy(() -> client.getExistingUserById(1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void missingUserIsNotReplacedByFallback() {
+        UserClientProperties.Resilience.Fallback properties = new UserClientProperties.Resilience.Fallback();
+        properties.setMode(FallbackUserClient.Mode.PARTIAL);
+        FallbackUserClient client = new FallbackUserClient(new StubUserClient(), properties, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> client.getUserById(99L)).isInstanceOf(HttpClientErrorException.NotFound.class);
+    }
+
+    /**
+     * User Service 장애처럼 모든 조회가 실패
+     */
+    private static class UnavailableUserClient extends StubUserClient {
+
+        @Override
+        public User getUserById(Long id) {
+            throw new IllegalStateException("User Service unavailable");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.config.UserClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgingUserClientTest {
+
+    @Test
+    void cancelledPrimaryIsNotCountedAsFailure() {
+        UserClientProperties properties = new UserClientProperties();
+        properties.getHedging().setMinDelay(Duration.ofMillis(20));
+        properties.getHedging().setBudgetRatio(1.0);
+        properties.getHedging().setMaxBurst(100);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // 첫 요청은 느리고(취소될 때까지 대기) 헤지 요청은 바로 응답
+        UserClient slowPrimary = new SlowPrimaryUserClient();
+        ResilientUserClient resilient = new ResilientUserClient(slowPrimary, properties.getResilience(), meterRegistry);
+        HedgingUserClient hedging = new HedgingUserClient(resilient, properties.getHedging(), meterRegistry);
+
+        int initialLimit = properties.getResilience().getLimiter().getInitialLimit();
+        int minimumCalls = properties.getResilience().getCircuitBreaker().getMinimumNumberOfCalls();
+        for (int i = 0; i < minimumCalls + 5; i++) {
+            assertThat(hedging.getUserById(1L).getId()).isEqualTo(1L);
+        }
+
+        assertThat(meterRegistry.get("user.client.hedge").tag("result", "won").counter().count())
+            .isEqualTo(minimumCalls + 5);
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.state").tag("state", "closed").gauge().value())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.calls").tag("kind", "failed").timer().count())
+            .isZero();
+        assertThat(meterRegistry.get("user.client.limiter.limit").gauge().value())
+            .isGreaterThanOrEqualTo(initialLimit);
+    }
+
+    /**
+     * 홀수 번째 호출(헤지의 첫 요청)은 인터럽트될 때까지 응답하지 않는 UserClient
+     */
+    static class SlowPrimaryUserClient extends StubUserClient {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public User getUserById(Long id) {
+            if (calls.getAndIncrement() % 2 == 0) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    // 소켓 읽기와 같이 인터럽트 상태를 유지한 채 실패
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Read interrupted", e);
+                }
+            }
+            return super.getUserById(id);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.openfeign.order.client;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.deadline.DeadlineExceededException;
+import com.example.openfeign.order.config.UserClientProperties;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.net.SocketTimeoutException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientUserClientTest {
+
+    @Test
+    void streamKeepsPermitUntilClosed() {
+        UserClientProperties properties = new UserClientProperties();
+        properties.getResilience().getBulkhead().getMethods().put("streamAllUsers", 1);
+        ResilientUserClient client = new ResilientUserClient(new StubUserClient(), properties.getResilience(),
+            new SimpleMeterRegistry());
+
+        try (Stream<User> users = client.streamAllUsers()) {
+            assertThat(users.iterator().hasNext()).isTrue();
+            assertThatThrownBy(client::streamAllUsers).isInstanceOf(BulkheadFullException.class);
+        }
+
+        try (Stream<User> users = client.streamAllUsers()) {
+            assertThat(users.count()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void timeoutShortenedByCallerDeadlineIsIgnored() {
+        UserClientProperties properties = new UserClientProperties();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResilientUserClient client = new ResilientUserClient(new TimingOutUserClient(true),
+            properties.getResilience(), meterRegistry);
+
+        int initialLimit = properties.getResilience().getLimiter().getInitialLimit();
+        int calls = properties.getResilience().getCircuitBreaker().getMinimumNumberOfCalls() + 5;
+        for (int i = 0; i < calls; i++) {
+            assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(DeadlineExceededException.class);
+        }
+
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.calls").tag("kind", "failed").timer().count())
+            .isZero();
+        assertThat(meterRegistry.get("user.client.limiter.limit").gauge().value()).isEqualTo(initialLimit);
+    }
+
+    @Test
+    void timeoutWithinConfiguredReadTimeoutIsCounted() {
+        UserClientProperties properties = new UserClientProperties();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResilientUserClient client = new ResilientUserClient(new TimingOutUserClient(false),
+            properties.getResilience(), meterRegistry);
+
+        int initialLimit = properties.getResilience().getLimiter().getInitialLimit();
+        assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(DeadlineExceededException.class);
+
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.calls").tag("kind", "failed").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("user.client.limiter.limit").gauge().value()).isLessThan(initialLimit);
+    }
+
+    @Test
+    void missingUserIsNotCountedAsFailure() {
+        UserClientProperties properties = new UserClientProperties();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResilientUserClient client = new ResilientUserClient(new StubUserClient(), properties.getResilience(),
+            meterRegistry);
+
+        int initialLimit = properties.getResilience().getLimiter().getInitialLimit();
+        int calls = properties.getResilience().getCircuitBreaker().getMinimumNumberOfCalls() + 5;
+        for (int i = 0; i < calls; i++) {
+            assertThatThrownBy(() -> client.getUserById(99L)).isInstanceOf(HttpClientErrorException.NotFound.class);
+        }
+
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.calls").tag("kind", "failed").timer().count())
+            .isZero();
+        assertThat(meterRegistry.get("user.client.limiter.limit").gauge().value()).isEqualTo(initialLimit);
+    }
+
+    /**
+     * 보낸 뒤 기한이 지나 실패하는 UserClient (timeoutShortened: 기한 때문에 읽기 타임아웃을 줄였는지)
+     */
+    private static class TimingOutUserClient extends StubUserClient {
+
+        private final boolean timeoutShortened;
+
+        TimingOutUserClient(boolean timeoutShortened) {
+            this.timeoutShortened = timeoutShortened;
+        }
+
+        @Override
+        public User getUserById(Long id) {
+            throw new DeadlineExceededException("GET /api/users/" + id,
+                new SocketTimeoutException("Read timed out"), timeoutShortened);
+        }
+    }
+}
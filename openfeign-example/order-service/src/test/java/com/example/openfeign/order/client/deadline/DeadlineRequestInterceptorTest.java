@@ -0,0 +1,52 @@
+package com.example.openfeign.order.client.deadline;
+
+import com.example.openfeign.common.Deadline;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class DeadlineRequestInterceptorTest {
+
+    /**
+     * 기한이 끝날 때까지 기다렸다가 읽기 타임아웃으로 실패하는 요청 실행
+     */
+    private static final ClientHttpRequestExecution TIMING_OUT = (request, body) -> {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new SocketTimeoutException("Read timed out");
+    };
+
+    @Test
+    void timeoutShortenedByDeadlineIsNotUserServiceTimeout() {
+        DeadlineExceededException e = intercept(new DeadlineRequestInterceptor(10_000));
+
+        assertThat(e.wasSent()).isTrue();
+        assertThat(e.isUserServiceTimeout()).isFalse();
+    }
+
+    @Test
+    void configuredTimeoutIsUserServiceTimeout() {
+        DeadlineExceededException e = intercept(new DeadlineRequestInterceptor(10));
+
+        assertThat(e.isUserServiceTimeout()).isTrue();
+    }
+
+    private static DeadlineExceededException intercept(DeadlineRequestInterceptor interceptor) {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/api/users/1"));
+        try (Deadline.Scope ignored = Deadline.after(Duration.ofMillis(20)).attach()) {
+            return catchThrowableOfType(() -> interceptor.intercept(request, new byte[0], TIMING_OUT),
+                DeadlineExceededException.class);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.openfeign.order.client.loadbalancer;
+
+import com.example.openfeign.order.config.UserClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserServiceLoadBalancerTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void returningInstanceDoesNotTakeWholeBurst() throws InterruptedException {
+        UserClientProperties.LoadBalancer properties = new UserClientProperties.LoadBalancer();
+        properties.setInstances(List.of("http://a", "http://b"));
+        properties.setSlowStart(Duration.ZERO);
+        properties.getOutlierDetection().setBaseEjectionTime(Duration.ofMillis(50));
+        UserServiceLoadBalancer loadBalancer = new UserServiceLoadBalancer(properties, new SimpleMeterRegistry());
+        UserServiceInstance a = loadBalancer.getInstances().get(0);
+        UserServiceInstance b = loadBalancer.getInstances().get(1);
+
+        for (int i = 0; i < 10; i++) {
+            loadBalancer.onComplete(loadBalancer.choose(), LATENCY, true);
+        }
+        for (int i = 0; i < properties.getOutlierDetection().getConsecutiveFailures(); i++) {
+            a.onStart();
+            loadBalancer.onComplete(a, LATENCY, false);
+        }
+        assertThat(a.isEjected(System.nanoTime())).isTrue();
+        Thread.sleep(60);
+
+        // 복귀 직후 동시에 들어온 요청이 모두 복귀한 인스턴스로 몰리지 않아야 함
+        int toA = 0;
+        for (int i = 0; i < 20; i++) {
+            if (loadBalancer.choose() == a) {
+                toA++;
+            }
+        }
+        assertThat(toA).isBetween(5, 15);
+        assertThat(a.getOutstanding() + b.getOutstanding()).isEqualTo(20);
+    }
+
+    @Test
+    void onlyUnavailableResponsesCountAsInstanceFailure() {
+        // 특정 요청이 계속 500을 받아도 정상 인스턴스가 제외되지 않아야 함
+        assertThat(UserServiceLoadBalancer.isInstanceFailure(500)).isFalse();
+        assertThat(UserServiceLoadBalancer.isInstanceFailure(504)).isFalse();
+        assertThat(UserServiceLoadBalancer.isInstanceFailure(404)).isFalse();
+        assertThat(UserServiceLoadBalancer.isInstanceFailure(502)).isTrue();
+        assertThat(UserServiceLoadBalancer.isInstanceFailure(503)).isTrue();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.openfeign.order.client.replica;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeEvent;
+import com.example.openfeign.order.client.FallbackUserClient;
+import com.example.openfeign.order.client.StubUserClient;
+import com.example.openfeign.order.client.UserClient;
+import com.example.openfeign.order.config.UserClientConfig;
+import com.example.openfeign.order.config.UserClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 다른 경로로 변경된 사용자가 복제본의 변경 이벤트로 near-cache와 fallback에서도 바뀌는지 확인
+ * 복제본이 준비되기 전(load 전)에는 조회가 near-cache로 넘어가므로 캐시된 값이 그대로 보입니다.
+ */
+class UserReplicaConsistencyTest {
+
+    private final FailingUserClient userService = new FailingUserClient();
+    private final UserReplica replica = new UserReplica(new SimpleMeterRegistry());
+    private UserClient client;
+
+    @BeforeEach
+    void setUp() {
+        UserClientProperties properties = new UserClientProperties();
+        properties.getResilience().setEnabled(false);
+        properties.getHedging().setEnabled(false);
+        properties.getResilience().getFallback().setMode(FallbackUserClient.Mode.CACHED);
+        client = new UserClientConfig().userClient(userService, properties,
+            new StaticListableBeanFactory(Map.of("userReplica", replica)).getBeanProvider(UserReplica.class),
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    void updateEventInvalidatesCacheAndFallback() {
+        assertThat(client.getUserById(1L).getName()).isEqualTo("김철수Stub");
+
+        User updated = new User(1L, "김철수", "kim@example.com", "010-1234-5678", 1L);
+        userService.updateUser(1L, updated);
+        replica.apply(new UserChangeEvent(UserChangeEvent.Type.UPDATED, 1L, 1L, 0L, updated));
+
+        assertThat(client.getUserById(1L).getName()).isEqualTo("김철수");
+
+        userService.failing = true;
+        replica.apply(new UserChangeEvent(UserChangeEvent.Type.UPDATED, 1L, 2L, 1L,
+            new User(1L, "김철수2", "kim@example.com", "010-1234-5678", 2L)));
+
+        assertThat(client.getUserById(1L).getName()).isEqualTo("김철수2");
+    }
+
+    @Test
+    void deleteEventRemovesFallback() {
+        client.getUserById(2L);
+
+        userService.failing = true;
+        replica.apply(new UserChangeEvent(UserChangeEvent.Type.DELETED, 2L, 1L, 0L, null));
+
+        assertThatThrownBy(() -> client.getUserById(2L)).hasMessageContaining("unavailable");
+    }
+
+    /**
+     * failing이면 User Service 장애처럼 모든 조회가 실패
+     */
+    private static class FailingUserClient extends StubUserClient {
+
+        volatile boolean failing;
+
+        @Override
+        public User getUserById(Long id) {
+            if (failing) {
+                throw new IllegalStateException("User Service unavailable");
+            }
+            return super.getUserById(id);
+        }
+    }
+}
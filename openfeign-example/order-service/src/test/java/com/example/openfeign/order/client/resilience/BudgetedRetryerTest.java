@@ -0,0 +1,138 @@
+package com.example.openfeign.order.client.resilience;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.RestUserClient;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.RetryableException;
+import feign.optionals.OptionalDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 항상 503 / 429(Retry-After)를 돌려주는 스텁 서버로 재시도 정책 확인
+ */
+class BudgetedRetryerTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserClientProperties.Retry properties = new UserClientProperties.Retry();
+    private HttpServer server;
+    private volatile String retryAfter;
+    private volatile int status = 503;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            if (retryAfter != null) {
+                exchange.getResponseHeaders().add("Retry-After", retryAfter);
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+
+        properties.setBaseDelay(Duration.ofMillis(1));
+        properties.setMaxDelay(Duration.ofMillis(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void postIsNotRetried() {
+        RestUserClient client = client();
+
+        assertThatThrownBy(() -> client.createUser(new User(null, "kim", "kim@example.com", null, null)))
+            .isInstanceOf(RetryableException.class);
+
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(rejected("non_idempotent")).isEqualTo(1);
+    }
+
+    @Test
+    void budgetCapsRetryAmplification() {
+        properties.setMaxAttempts(3);
+        properties.setBudgetRatio(0.1);
+        properties.setMaxBurst(2);
+        RestUserClient client = client();
+
+        int calls = 50;
+        for (int i = 0; i < calls; i++) {
+            assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(RetryableException.class);
+        }
+
+        // 예산이 없으면 calls x maxAttempts = 150건
+        assertThat(requests.get()).isGreaterThan(calls)
+            .isLessThanOrEqualTo(calls + 2 + (int) (calls * 0.1));
+        assertThat(rejected("budget_exhausted")).isGreaterThan(0);
+    }
+
+    @Test
+    void retryAfterLongerThanLimitIsNotRetried() {
+        status = 429;
+        retryAfter = "10";
+        properties.setMaxRetryAfter(Duration.ofSeconds(5));
+        RestUserClient client = client();
+
+        assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(RetryableException.class);
+
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(rejected("retry_after_too_long")).isEqualTo(1);
+    }
+
+    @Test
+    void retryAfterWithinLimitIsRetried() {
+        status = 429;
+        retryAfter = "0";
+        properties.setMaxAttempts(2);
+        RestUserClient client = client();
+
+        assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(RetryableException.class);
+
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(rejected("exhausted")).isEqualTo(1);
+    }
+
+    private RestUserClient client() {
+        HttpMessageConverters messageConverters = new HttpMessageConverters(new MappingJackson2HttpMessageConverter());
+        ObjectFactory<HttpMessageConverters> converters = () -> messageConverters;
+
+        return Feign.builder()
+            .contract(new SpringMvcContract())
+            .encoder(new SpringEncoder(converters))
+            .decoder(new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(converters))))
+            .errorDecoder(new RetryableStatusErrorDecoder(new HashSet<>(properties.getRetryableStatuses())))
+            .retryer(new BudgetedRetryer(properties, meterRegistry))
+            .target(RestUserClient.class, "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("user.client.retry.rejected").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.openfeign.order.repository;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSnapshotRepositoryTest {
+
+    @Test
+    void deletedUserIsNotRestoredByLateRefresh() {
+        UserSnapshotRepository snapshots = new UserSnapshotRepository();
+        User user = new User(1L, "김철수", "kim@example.com", "010-1234-5678", 1L);
+        snapshots.save(user);
+
+        // 재조회가 삭제 전에 받은 사용자를 삭제 이벤트 뒤에 저장
+        assertThat(snapshots.apply(new UserChangeEvent(UserChangeEvent.Type.DELETED, 1L, 2L, 1L, null))).isTrue();
+        snapshots.save(user);
+        assertThat(snapshots.find(1L)).isNull();
+
+        // 같은 ID로 다시 만든 사용자는 저장
+        snapshots.save(new User(1L, "김철수", "kim@example.com", "010-1234-5678", 3L));
+        assertThat(snapshots.find(1L).user().getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void userRemovedBySweepIsNotRestoredByLateLoad() {
+        UserSnapshotRepository snapshots = new UserSnapshotRepository();
+        User user = new User(1L, "김철수", "kim@example.com", "010-1234-5678", 1L);
+        snapshots.save(user);
+
+        // 재조회에서 찾지 못해 지운 뒤, 그 전에 시작한 조회 결과가 늦게 도착
+        snapshots.remove(1L);
+        snapshots.save(user);
+        assertThat(snapshots.find(1L)).isNull();
+
+        snapshots.save(new User(1L, "김철수", "kim@example.com", "010-1234-5678", 2L));
+        assertThat(snapshots.find(1L).user().getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void tombstonesExpireWithSweep() {
+        UserSnapshotRepository snapshots = new UserSnapshotRepository();
+        User user = new User(1L, "김철수", "kim@example.com", "010-1234-5678", 1L);
+        snapshots.save(user);
+        snapshots.apply(new UserChangeEvent(UserChangeEvent.Type.DELETED, 1L, 2L, 1L, null));
+
+        snapshots.findOlderThan(0);
+        snapshots.save(user);
+
+        assertThat(snapshots.find(1L)).isNotNull();
+    }
+}
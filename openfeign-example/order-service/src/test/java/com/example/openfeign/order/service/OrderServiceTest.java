@@ -0,0 +1,68 @@
+package com.example.openfeign.order.service;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.order.client.StubUserClient;
+import com.example.openfeign.order.config.OrderReadModelProperties;
+import com.example.openfeign.order.config.UserClientProperties;
+import com.example.openfeign.order.domain.BulkOrderResponse;
+import com.example.openfeign.order.domain.Order;
+import com.example.openfeign.order.repository.OrderRepository;
+import com.example.openfeign.order.repository.UserSnapshotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderServiceTest {
+
+    @Test
+    void bulkCreateBoundsConcurrentLookups() {
+        UserClientProperties properties = new UserClientProperties();
+        properties.setBatchSize(1);
+        properties.getEnrichment().setMaxConcurrency(2);
+        ConcurrencyTrackingUserClient userClient = new ConcurrencyTrackingUserClient();
+        OrderService orderService = new OrderService(userClient, null,
+            new OrderReadModel(userClient, new OrderUserEnricher(userClient, properties),
+                new UserSnapshotRepository(), new OrderReadModelProperties(), new SimpleMeterRegistry()),
+            new OrderRepository(), properties);
+
+        List<Order> orders = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            orders.add(new Order(id, id, "상품-" + id, 1, 1000.0, null));
+        }
+        BulkOrderResponse response = orderService.createOrders(orders);
+
+        assertThat(userClient.calls.get()).isEqualTo(20);
+        assertThat(userClient.maxInFlight.get()).isEqualTo(2);
+        assertThat(response.getCreated()).isEqualTo(3);
+    }
+
+    /**
+     * 동시에 진행 중인 getUsersByIds 호출 수의 최댓값을 기록
+     */
+    private static class ConcurrencyTrackingUserClient extends StubUserClient {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        @Override
+        public List<User> getUsersByIds(List<Long> ids) {
+            calls.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return super.getUsersByIds(ids);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
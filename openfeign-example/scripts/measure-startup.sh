@@ -0,0 +1,169 @@
+#!/usr/bin/env bash
+# 서비스 시작 시간 / 첫 요청까지 걸린 시간(time-to-first-request) 측정
+#
+# 빌드 (gradle/fast-startup.gradle):
+#   ./gradlew bootJar cdsArchive               # jar, extracted, cds
+#   ./gradlew bootJar cdsArchive -Paot         # + aot, aot-cds
+#   ./gradlew nativeCompile -Pnative           # + native (GraalVM JDK 필요)
+#
+# 실행:
+#   scripts/measure-startup.sh [user-service|order-service|all]
+#
+# 모드 (빌드되지 않은 모드는 건너뜀):
+#   jar        java -jar build/libs/*.jar (bootJar)
+#   extracted  java -jar build/cds/application.jar (lib/ 구조로 푼 jar)
+#   cds        extracted + -XX:SharedArchiveFile=application.jsa
+#   aot        extracted + -Dspring.aot.enabled=true
+#   aot-cds    cds + aot
+#   native     build/native/nativeCompile/<서비스>
+#
+# 환경 변수:
+#   RUNS      모드별 반복 횟수 (기본 5, 결과는 중앙값)
+#   MODES     측정할 모드 (기본 "jar extracted cds aot aot-cds native")
+#   JAVA_HOME cdsArchive를 만든 JDK와 같아야 CDS 아카이브가 사용됨
+#
+# 출력 (밀리초, RSS는 첫 응답 직후 프로세스 메모리 MB):
+#   started    Spring이 보고한 시작 시간 ("Started ... in N seconds")
+#   first-req  프로세스 실행부터 첫 요청이 200으로 응답하기까지 (order-service는 Feign 호출 포함)
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RUNS="${RUNS:-5}"
+MODES="${MODES:-jar extracted cds aot aot-cds native}"
+TARGET="${1:-all}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+JAR_TOOL="${JAVA_HOME:+$JAVA_HOME/bin/}jar"
+TIMEOUT_SECONDS=60
+LOG_DIR="$(mktemp -d)"
+HELPER_PID=""
+
+cleanup() {
+    if [[ -n "$HELPER_PID" ]]; then
+        kill "$HELPER_PID" 2>/dev/null || true
+        wait "$HELPER_PID" 2>/dev/null || true
+    fi
+    rm -rf "$LOG_DIR"
+}
+trap cleanup EXIT
+
+now_millis() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+has_aot_classes() {
+    [[ -f "$1" ]] && "$JAR_TOOL" tf "$1" | grep -q '__BeanFactoryRegistrations.class$'
+}
+
+# 모드별 실행 명령 (빌드 결과가 없으면 실패)
+command_for() {
+    local service="$1" mode="$2" args="$3"
+    local build="$ROOT/$service/build"
+    local app="$build/cds/application.jar" archive="$build/cds/application.jsa"
+    case "$mode" in
+        jar)
+            local jar
+            jar="$(ls "$build"/libs/"$service"-*.jar 2>/dev/null | grep -v -- '-plain.jar' | head -1)"
+            [[ -n "$jar" ]] || return 1
+            echo "$JAVA -jar $jar $args" ;;
+        extracted)
+            [[ -f "$app" ]] || return 1
+            echo "$JAVA -jar $app $args" ;;
+        cds)
+            [[ -f "$archive" ]] || return 1
+            echo "$JAVA -XX:SharedArchiveFile=$archive -Xlog:cds=off -jar $app $args" ;;
+        aot)
+            has_aot_classes "$app" || return 1
+            echo "$JAVA -Dspring.aot.enabled=true -jar $app $args" ;;
+        aot-cds)
+            [[ -f "$archive" ]] && has_aot_classes "$app" || return 1
+            echo "$JAVA -XX:SharedArchiveFile=$archive -Xlog:cds=off -Dspring.aot.enabled=true -jar $app $args" ;;
+        native)
+            [[ -x "$build/native/nativeCompile/$service" ]] || return 1
+            echo "$build/native/nativeCompile/$service $args" ;;
+        *)
+            echo "Unknown mode: $mode" >&2
+            return 1 ;;
+    esac
+}
+
+# 한 번 실행: "started first-req rss" 출력
+measure_once() {
+    local command="$1" url="$2" log="$3"
+    local start pid elapsed started rss
+
+    start="$(now_millis)"
+    $command > "$log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$url"; do
+        if ! kill -0 "$pid" 2>/dev/null || (( $(now_millis) - start > TIMEOUT_SECONDS * 1000 )); then
+            kill "$pid" 2>/dev/null || true
+            echo "Startup failed: $command (log: $log)" >&2
+            tail -20 "$log" >&2
+            return 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( $(now_millis) - start ))
+    rss="$(awk '/VmRSS/ { printf "%d", $2 / 1024 }' "/proc/$pid/status" 2>/dev/null || echo "-")"
+    started="$(sed -nE 's/.*Started [A-Za-z]+ in ([0-9.]+) seconds.*/\1/p' "$log" | awk '{ printf "%d", $1 * 1000 }')"
+
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    echo "${started:--} $elapsed ${rss:--}"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR == 0) print "-"; else print v[int((NR + 1) / 2)] }'
+}
+
+measure_service() {
+    local service="$1" args="$2" url="$3"
+    local mode command run results
+
+    printf '\n%s (%s runs, median)\n' "$service" "$RUNS"
+    printf '%-10s %10s %10s %8s\n' mode started first-req rss-mb
+    for mode in $MODES; do
+        if ! command="$(command_for "$service" "$mode" "$args")"; then
+            printf '%-10s %10s\n' "$mode" "(not built)"
+            continue
+        fi
+        results="$LOG_DIR/$service-$mode.txt"
+        : > "$results"
+        for run in $(seq "$RUNS"); do
+            measure_once "$command" "$url" "$LOG_DIR/$service-$mode-$run.log" >> "$results"
+        done
+        printf '%-10s %10s %10s %8s\n' "$mode" \
+            "$(awk '$1 != "-" { print $1 }' "$results" | median)" \
+            "$(awk '{ print $2 }' "$results" | median)" \
+            "$(awk '$3 != "-" { print $3 }' "$results" | median)"
+    done
+}
+
+# order-service 측정용 User Service (가장 빠른 빌드 결과로 한 번만 실행)
+start_helper_user_service() {
+    local mode command
+    curl -sf -o /dev/null http://localhost:8080/api/users/1 && return 0
+    for mode in extracted jar; do
+        if command="$(command_for user-service "$mode" "")"; then
+            $command > "$LOG_DIR/helper-user-service.log" 2>&1 &
+            HELPER_PID=$!
+            until curl -sf -o /dev/null http://localhost:8080/api/users/1; do
+                kill -0 "$HELPER_PID" 2>/dev/null || { echo "Helper user-service failed to start" >&2; exit 1; }
+                sleep 0.1
+            done
+            return 0
+        fi
+    done
+    echo "user-service is not built; run ./gradlew :user-service:bootJar first" >&2
+    exit 1
+}
+
+if [[ "$TARGET" == all || "$TARGET" == user-service ]]; then
+    measure_service user-service "" http://localhost:8080/api/users/1
+fi
+if [[ "$TARGET" == all || "$TARGET" == order-service ]]; then
+    start_helper_user_service
+    # AOT/네이티브 빌드는 rest 프로필로 처리되었으므로 JVM 모드도 같은 프로필로 실행
+    measure_service order-service "--spring.profiles.active=rest" http://localhost:8081/api/orders/1
+fi
@@ -0,0 +1,57 @@
+package com.example.openfeign.user.change;
+
+import com.example.openfeign.common.UserChangeEvent;
+import com.example.openfeign.common.UserChanges;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 사용자 변경 이벤트를 보관하는 원형 버퍼
+ * 이벤트는 version 순서대로 빠짐없이 추가되어야 하며, 버전 v는 v % capacity 위치에 저장됩니다.
+ */
+final class UserChangeLog {
+
+    private final UserChangeEvent[] events;
+    private long latestVersion;
+
+    UserChangeLog(int capacity) {
+        this.events = new UserChangeEvent[Math.max(1, capacity)];
+    }
+
+    synchronized void append(UserChangeEvent event) {
+        events[(int) (event.getVersion() % events.length)] = event;
+        latestVersion = event.getVersion();
+        notifyAll();
+    }
+
+    synchronized long latestVersion() {
+        return latestVersion;
+    }
+
+    /**
+     * after 다음 버전부터 최대 limit개를 조회
+     * 새 이벤트가 없으면 최대 waitNanos 동안 기다립니다 (롱 폴링).
+     * after가 이미 버려진 구간이거나 최신 버전보다 크면(User Service 재시작 등) truncated로 응답합니다.
+     */
+    synchronized UserChanges since(long after, int limit, long waitNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + waitNanos;
+        long remaining = waitNanos;
+        while (latestVersion == after && remaining > 0) {
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+
+        long oldest = Math.max(1, latestVersion - events.length + 1);
+        if (after > latestVersion || after + 1 < oldest) {
+            return new UserChanges(List.of(), latestVersion, true);
+        }
+        int count = (int) Math.min(limit, latestVersion - after);
+        List<UserChangeEvent> result = new ArrayList<>(count);
+        for (long version = after + 1; version <= after + count; version++) {
+            result.add(events[(int) (version % events.length)]);
+        }
+        return new UserChanges(result, latestVersion, false);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.openfeign.user.change;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 사용자 변경 이벤트 설정 (user.changes.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "user.changes")
+public class UserChangeProperties {
+
+    /**
+     * 다시 보내기 위해 보관하는 최근 이벤트 수
+     * 구독자가 이보다 많이 뒤처지면 전체 목록으로 다시 동기화해야 합니다.
+     */
+    private int logCapacity = 10_000;
+
+    /**
+     * /api/users/changes 롱 폴링의 최대 대기 시간
+     * order-service의 읽기 타임아웃보다 짧아야 합니다.
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+}
@@ -0,0 +1,121 @@
+package com.example.openfeign.user.change;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeEvent;
+import com.example.openfeign.common.UserChangeTransport;
+import com.example.openfeign.common.UserChanges;
+import com.example.openfeign.user.store.UserStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자 변경을 저장하고 변경 이벤트를 남기는 서비스
+ *
+ * 변경마다 전역 순번(version)을 1씩 올려 사용자에 기록하고, 같은 순서로
+ * - 최근 이벤트 로그(UserChangeLog)에 추가 (/api/users/changes 롱 폴링과 재동기화용)
+ * - UserChangeTransport 빈이 있으면 발행
+ * 합니다. 순번 부여, 저장, 발행은 하나의 락 안에서 수행하므로 이벤트는 항상 버전 순서로 나갑니다.
+ * 조회는 락 없이 UserStore에서 바로 읽습니다.
+ */
+@Slf4j
+@Service
+public class UserChangeService {
+
+    private final UserStore userStore;
+    private final UserChangeLog changeLog;
+    private final List<UserChangeTransport> transports;
+    private final Duration maxWait;
+    private final Object lock = new Object();
+    private long version;
+
+    public UserChangeService(UserStore userStore,
+                             UserChangeProperties properties,
+                             ObjectProvider<UserChangeTransport> transports) {
+        this.userStore = userStore;
+        this.changeLog = new UserChangeLog(properties.getLogCapacity());
+        this.transports = transports.orderedStream().toList();
+        this.maxWait = properties.getMaxWait();
+    }
+
+    /**
+     * 저장 (같은 ID가 있으면 덮어씀)
+     *
+     * @return 버전이 기록된 사용자
+     */
+    public User save(User user) {
+        synchronized (lock) {
+            User previous = userStore.get(user.getId());
+            user.setVersion(++version);
+            userStore.put(user);
+            publish(previous == null ? UserChangeEvent.Type.CREATED : UserChangeEvent.Type.UPDATED,
+                user.getId(), previous, user);
+            return user;
+        }
+    }
+
+    /**
+     * 이미 있는 사용자만 교체
+     *
+     * @return 버전이 기록된 사용자, 해당 ID가 없으면 null
+     */
+    public User update(long id, User user) {
+        synchronized (lock) {
+            User previous = userStore.get(id);
+            if (previous == null) {
+                return null;
+            }
+            user.setId(id);
+            user.setVersion(++version);
+            userStore.put(user);
+            publish(UserChangeEvent.Type.UPDATED, id, previous, user);
+            return user;
+        }
+    }
+
+    /**
+     * @return 삭제했으면 true, 해당 ID가 없으면 false
+     */
+    public boolean delete(long id) {
+        synchronized (lock) {
+            User previous = userStore.get(id);
+            if (previous == null) {
+                return false;
+            }
+            ++version;
+            userStore.remove(id);
+            publish(UserChangeEvent.Type.DELETED, id, previous, null);
+            return true;
+        }
+    }
+
+    /**
+     * after 이후의 변경 이벤트 (없으면 최대 wait 동안 기다림, maxWait를 넘지 않음)
+     */
+    public UserChanges changesSince(long after, int limit, Duration wait) {
+        long waitNanos = Math.max(0, Math.min(wait.toNanos(), maxWait.toNanos()));
+        try {
+            return changeLog.since(after, limit, waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new UserChanges(List.of(), changeLog.latestVersion(), false);
+        }
+    }
+
+    private void publish(UserChangeEvent.Type type, long id, User previous, User user) {
+        long previousVersion = previous == null || previous.getVersion() == null ? 0 : previous.getVersion();
+        UserChangeEvent event = new UserChangeEvent(type, id, version, previousVersion, user);
+        changeLog.append(event);
+        for (UserChangeTransport transport : transports) {
+            try {
+                transport.publish(event);
+            } catch (RuntimeException e) {
+                // 구독자는 버전 누락으로 감지하고 다시 동기화함
+                log.warn("Failed to publish user change {} (version {}): {}", type, version, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.openfeign.user.chaos;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * /api/users 요청에 설정한 비율로 지연과 오류 응답을 주입하는 필터
+ *
+ * 사용법:
+ * ./gradlew :user-service:bootRun --args='--user.chaos.enabled=true --user.chaos.latency-probability=0.05 --user.chaos.latency=800ms'
+ * ./gradlew :user-service:bootRun --args='--user.chaos.enabled=true --user.chaos.error-probability=0.3 --user.chaos.error-status=503'
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user.chaos.enabled", havingValue = "true")
+public class ChaosFilter extends OncePerRequestFilter {
+
+    private final ChaosProperties properties;
+
+    public ChaosFilter(ChaosProperties properties) {
+        this.properties = properties;
+        log.warn("Chaos filter enabled: {}", properties);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/users");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        if (ThreadLocalRandom.current().nextDouble() < properties.getLatencyProbability()) {
+            try {
+                Thread.sleep(properties.getLatency().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (ThreadLocalRandom.current().nextDouble() < properties.getErrorProbability()) {
+            if (properties.getRetryAfter() != null) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfter().toSeconds()));
+            }
+            response.sendError(properties.getErrorStatus(), "Injected by chaos filter");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.openfeign.user.chaos;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 장애 주입 설정 (user.chaos.*)
+ * order-service의 헤지/재시도/서킷 브레이커 동작을 로컬에서 확인하기 위한 용도입니다.
+ * 지연과 오류는 서로 독립적으로 주입됩니다 (지연 후 오류 응답도 가능).
+ */
+@Data
+@ConfigurationProperties(prefix = "user.chaos")
+public class ChaosProperties {
+
+    /**
+     * 장애 주입 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 지연을 주입할 요청 비율 (0.0 ~ 1.0)
+     */
+    private double latencyProbability = 0.0;
+
+    /**
+     * 주입할 지연 시간
+     */
+    private Duration latency = Duration.ofMillis(500);
+
+    /**
+     * 오류 응답을 주입할 요청 비율 (0.0 ~ 1.0)
+     */
+    private double errorProbability = 0.0;
+
+    /**
+     * 주입할 오류 응답 상태 코드
+     */
+    private int errorStatus = 503;
+
+    /**
+     * 오류 응답에 붙일 Retry-After (없으면 헤더를 붙이지 않음)
+     */
+    private Duration retryAfter;
+}
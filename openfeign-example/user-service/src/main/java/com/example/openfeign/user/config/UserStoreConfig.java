@@ -0,0 +1,29 @@
+package com.example.openfeign.user.config;
+
+import com.example.openfeign.user.store.CompactUserStore;
+import com.example.openfeign.user.store.SkipListUserStore;
+import com.example.openfeign.user.store.UserStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자 저장소 선택 (user.store.type)
+ * - compact (기본값): CompactUserStore
+ * - skip-list: SkipListUserStore
+ */
+@Configuration
+public class UserStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "user.store.type", havingValue = "compact", matchIfMissing = true)
+    public UserStore compactUserStore() {
+        return new CompactUserStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "user.store.type", havingValue = "skip-list")
+    public UserStore skipListUserStore() {
+        return new SkipListUserStore();
+    }
+}
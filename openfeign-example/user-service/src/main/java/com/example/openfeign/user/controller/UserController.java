@@ -1,56 +1,208 @@
 package com.example.openfeign.user.controller;
 
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.Deadline;
 import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChanges;
+import com.example.openfeign.common.UserEtags;
+import com.example.openfeign.user.change.UserChangeService;
+import com.example.openfeign.user.store.UserStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
-    private final Map<Long, User> userDatabase = new HashMap<>();
+    /**
+     * 페이지 조회 시 한 번에 돌려줄 수 있는 최대 사용자 수
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * 목록을 순회할 때 처리 기한을 확인하는 간격 (사용자 수)
+     */
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    // 동시 읽기/쓰기에 안전하며 ID 순으로 순회 (UserStoreConfig에서 구현 선택)
+    private final UserStore userDatabase;
+    // 변경은 버전을 매기고 변경 이벤트를 남기도록 UserChangeService를 거침
+    private final UserChangeService userChanges;
+    private final ObjectWriter userWriter;
+
+    public UserController(UserStore userStore, UserChangeService userChanges, ObjectMapper objectMapper) {
+        this.userDatabase = userStore;
+        this.userChanges = userChanges;
+        this.userWriter = objectMapper.writerFor(User.class);
 
-    public UserController() {
         // 초기 데이터
-        userDatabase.put(1L, new User(1L, "김철수", "kim@example.com", "010-1234-5678"));
-        userDatabase.put(2L, new User(2L, "이영희", "lee@example.com", "010-2345-6789"));
-        userDatabase.put(3L, new User(3L, "박민수", "park@example.com", "010-3456-7890"));
+        userChanges.save(new User(1L, "김철수", "kim@example.com", "010-1234-5678"));
+        userChanges.save(new User(2L, "이영희", "lee@example.com", "010-2345-6789"));
+        userChanges.save(new User(3L, "박민수", "park@example.com", "010-3456-7890"));
     }
 
+    /**
+     * 특정 사용자 조회
+     * 응답에 ETag를 붙이며, If-None-Match가 현재 ETag와 같으면 바디 없이 304를 돌려줍니다.
+     * (GET 요청의 ETag 비교와 304 응답은 Spring MVC가 ResponseEntity를 처리하면서 수행)
+     */
     @GetMapping("/{id}")
-    public User getUserById(@PathVariable Long id) {
+    public ResponseEntity<User> getUserById(@PathVariable Long id) {
+        checkDeadline(Deadline.current());
         User user = userDatabase.get(id);
         if (user == null) {
-            throw new RuntimeException("User not found: " + id);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found: " + id);
         }
-        return user;
+        return ResponseEntity.ok().eTag(UserEtags.of(user)).body(user);
     }
 
+    /**
+     * 전체 사용자 조회
+     * 요청마다 전체 목록을 새로 만들므로 사용자가 많으면 /page 또는 /stream을 사용합니다.
+     * 목록을 만드는 도중에 처리 기한이 지나면 중단합니다.
+     */
     @GetMapping
-    public Map<Long, User> getAllUsers() {
-        return userDatabase;
+    public ResponseEntity<Map<Long, User>> getAllUsers() {
+        Deadline deadline = Deadline.current();
+        checkDeadline(deadline);
+        Map<Long, User> users = new LinkedHashMap<>();
+        for (User user : userDatabase) {
+            users.put(user.getId(), user);
+            if (users.size() % DEADLINE_CHECK_INTERVAL == 0) {
+                checkDeadline(deadline);
+            }
+        }
+        return ResponseEntity.ok().eTag(UserEtags.of(users.values(), null)).body(users);
+    }
+
+    /**
+     * 사용자 목록 페이지 조회 (ID 순)
+     * 전체 목록을 한 번에 만들지 않고 after 다음 ID부터 limit개만 돌려줍니다.
+     *
+     * @param after 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param limit 페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<User>> getUsersPage(@RequestParam(required = false) Long after,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        checkDeadline(Deadline.current());
+        CursorPage<User> page = userDatabase.page(after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        return ResponseEntity.ok().eTag(UserEtags.of(page.getItems(), page.getNextCursor())).body(page);
+    }
+
+    /**
+     * 모든 사용자를 NDJSON(한 줄에 사용자 하나)으로 스트리밍
+     * 응답을 메모리에 모으지 않고 ID 순으로 바로 써 내려갑니다.
+     * 바디는 다른 스레드에서 쓰므로 처리 기한을 미리 꺼내 두고 확인하며, 지나면 스트림을 끊습니다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        Deadline deadline = Deadline.current();
+        checkDeadline(deadline);
+        StreamingResponseBody body = out -> {
+            int written = 0;
+            for (User user : userDatabase) {
+                out.write(userWriter.writeValueAsBytes(user));
+                out.write('\n');
+                if (++written % DEADLINE_CHECK_INTERVAL == 0) {
+                    checkDeadline(deadline);
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 여러 사용자 일괄 조회
+     * 주문 목록처럼 많은 사용자를 한 번에 조회해야 할 때 N번의 호출 대신 한 번의 호출로 처리합니다.
+     * 존재하지 않는 ID는 결과에서 제외됩니다.
+     */
+    @PostMapping("/batch")
+    public List<User> getUsersByIds(@RequestBody List<Long> ids) {
+        Deadline deadline = Deadline.current();
+        checkDeadline(deadline);
+        List<User> users = new ArrayList<>(ids.size());
+        int checked = 0;
+        for (Long id : new LinkedHashSet<>(ids)) {
+            User user = userDatabase.get(id);
+            if (user != null) {
+                users.add(user);
+            }
+            if (++checked % DEADLINE_CHECK_INTERVAL == 0) {
+                checkDeadline(deadline);
+            }
+        }
+        return users;
+    }
+
+    /**
+     * after 버전 이후의 사용자 변경 이벤트 (버전 순)
+     * 새 이벤트가 없으면 최대 waitMillis 동안 기다렸다가 응답합니다 (롱 폴링, user.changes.max-wait와 처리 기한 이하).
+     * order-service의 사용자 복제본이 변경을 따라가거나 누락된 이벤트를 다시 받을 때 사용합니다.
+     *
+     * @param after 마지막으로 받은 버전 (처음이면 0)
+     * @param limit 최대 이벤트 수 (최대 MAX_PAGE_SIZE)
+     */
+    @GetMapping("/changes")
+    public UserChanges getChanges(@RequestParam(defaultValue = "0") long after,
+                                  @RequestParam(defaultValue = "100") int limit,
+                                  @RequestParam(defaultValue = "0") long waitMillis) {
+        Deadline deadline = Deadline.current();
+        checkDeadline(deadline);
+        if (deadline != null) {
+            waitMillis = Math.min(waitMillis, deadline.remainingMillis());
+        }
+        return userChanges.changesSince(after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)),
+            Duration.ofMillis(waitMillis));
     }
 
     @PostMapping
     public User createUser(@RequestBody User user) {
-        userDatabase.put(user.getId(), user);
-        return user;
+        checkDeadline(Deadline.current());
+        if (user.getId() == null) {
+            // 저장소는 id를 키로 쓰므로 id 없이 저장할 수 없음
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "User id is required");
+        }
+        return userChanges.save(user);
     }
 
     @PutMapping("/{id}")
     public User updateUser(@PathVariable Long id, @RequestBody User user) {
-        if (!userDatabase.containsKey(id)) {
-            throw new RuntimeException("User not found: " + id);
+        checkDeadline(Deadline.current());
+        User updated = userChanges.update(id, user);
+        if (updated == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found: " + id);
         }
-        user.setId(id);
-        userDatabase.put(id, user);
-        return user;
+        return updated;
     }
 
     @DeleteMapping("/{id}")
     public void deleteUser(@PathVariable Long id) {
-        userDatabase.remove(id);
+        checkDeadline(Deadline.current());
+        userChanges.delete(id);
+    }
+
+    /**
+     * 요청 처리 기한(X-Request-Timeout)이 지났으면 중단하고 504로 응답
+     * 호출한 쪽은 이미 응답을 기다리지 않으므로 남은 작업은 낭비입니다.
+     * 변경 요청은 시작하기 전에만 확인하고, 시작한 변경은 끝까지 처리합니다.
+     */
+    private static void checkDeadline(Deadline deadline) {
+        if (deadline != null && deadline.isExpired()) {
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Deadline exceeded");
+        }
     }
 }
@@ -0,0 +1,39 @@
+package com.example.openfeign.user.deadline;
+
+import com.example.openfeign.common.Deadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * X-Request-Timeout 헤더(호출한 쪽의 남은 시간, 밀리초)를 요청 처리 기한으로 붙이는 필터
+ *
+ * 다른 필터(ChaosFilter 등)보다 먼저 실행하여 요청을 받은 시점부터 기한을 계산합니다.
+ * UserController는 처리 중에 기한을 확인하고, 이미 지났으면 작업을 중단하고 504로 응답합니다.
+ * 헤더가 없는 요청에는 기한이 없습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Duration timeout = Deadline.parseHeader(request.getHeader(Deadline.HEADER));
+        if (timeout == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try (Deadline.Scope ignored = Deadline.after(timeout).attach()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.example.openfeign.user.store;
+
+import com.example.openfeign.common.User;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 메모리를 적게 쓰는 사용자 저장소 (기본값, user.store.type=compact)
+ *
+ * ID를 1024개 단위 청크로 나누고, 청크 안에서는 ID 하위 비트를 배열 인덱스로 사용합니다.
+ * - 사용자마다 Long 키나 맵 노드를 만들지 않음 (청크 맵 항목은 1024명당 하나)
+ * - 버전과 이름/이메일/전화번호는 UTF-8 바이트 하나의 레코드(byte[])로 저장
+ *   [버전+1 (varint)] [길이+1 (varint)][바이트] x 3, 0은 null
+ * - 레코드는 불변이며 AtomicReferenceArray의 슬롯을 통째로 교체하므로 읽기에 락이 필요 없음
+ *
+ * 청크가 없는 범위의 ID는 레코드를 ID별 맵(sparse)에 두었다가, 한 청크 범위에 PROMOTE_THRESHOLD명이 모이면 청크로 옮깁니다.
+ * 클라이언트가 정한 ID가 멀리 떨어져 있어도(예: 1024 간격) 사용자마다 청크 하나(슬롯 1024개)를 만들지 않습니다.
+ * sparse 맵 쓰기와 청크로 옮기기는 락을 잡고, 이미 있는 청크의 읽기/쓰기는 락 없이 처리합니다.
+ *
+ * 조회할 때마다 레코드에서 새 User를 만들어 반환하므로 반환된 객체를 수정해도 저장소에는 영향이 없습니다.
+ * ID가 연속적일수록 효율적이며, 비어 있는 청크는 회수하지 않습니다.
+ */
+public class CompactUserStore implements UserStore {
+
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * 한 청크 범위의 sparse 사용자가 이 수에 이르면 청크로 옮김 (슬롯 비용이 사용자당 맵 항목 비용과 비슷해지는 지점)
+     */
+    static final int PROMOTE_THRESHOLD = CHUNK_SIZE / 16;
+
+    private final ConcurrentSkipListMap<Long, AtomicReferenceArray<byte[]>> chunks = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Long, byte[]> sparse = new ConcurrentSkipListMap<>();
+    private final ReentrantLock sparseLock = new ReentrantLock();
+    private final LongAdder size = new LongAdder();
+
+    @Override
+    public User get(long id) {
+        AtomicReferenceArray<byte[]> chunk = chunks.get(id >> CHUNK_BITS);
+        if (chunk == null) {
+            byte[] record = sparse.get(id);
+            if (record != null) {
+                return decode(id, record);
+            }
+            // 청크로 옮기는 중이었다면 sparse에서 지우기 전에 청크가 먼저 등록됨
+            chunk = chunks.get(id >> CHUNK_BITS);
+            if (chunk == null) {
+                return null;
+            }
+        }
+        byte[] record = chunk.get((int) (id & CHUNK_MASK));
+        return record == null ? null : decode(id, record);
+    }
+
+    @Override
+    public void put(User user) {
+        long id = Objects.requireNonNull(user.getId(), "id");
+        byte[] record = encode(user);
+        AtomicReferenceArray<byte[]> chunk = chunks.get(id >> CHUNK_BITS);
+        if (chunk == null) {
+            sparseLock.lock();
+            try {
+                chunk = chunks.get(id >> CHUNK_BITS);
+                if (chunk == null) {
+                    if (sparse.put(id, record) == null) {
+                        size.increment();
+                        promoteIfDense(id >> CHUNK_BITS);
+                    }
+                    return;
+                }
+            } finally {
+                sparseLock.unlock();
+            }
+        }
+        if (chunk.getAndSet((int) (id & CHUNK_MASK), record) == null) {
+            size.increment();
+        }
+    }
+
+    @Override
+    public boolean replace(long id, User user) {
+        byte[] record = encode(user);
+        AtomicReferenceArray<byte[]> chunk = chunks.get(id >> CHUNK_BITS);
+        if (chunk == null) {
+            sparseLock.lock();
+            try {
+                chunk = chunks.get(id >> CHUNK_BITS);
+                if (chunk == null) {
+                    return sparse.replace(id, record) != null;
+                }
+            } finally {
+                sparseLock.unlock();
+            }
+        }
+        int index = (int) (id & CHUNK_MASK);
+        byte[] current;
+        do {
+            current = chunk.get(index);
+            if (current == null) {
+                return false;
+            }
+        } while (!chunk.compareAndSet(index, current, record));
+        return true;
+    }
+
+    @Override
+    public void remove(long id) {
+        AtomicReferenceArray<byte[]> chunk = chunks.get(id >> CHUNK_BITS);
+        if (chunk == null) {
+            sparseLock.lock();
+            try {
+                chunk = chunks.get(id >> CHUNK_BITS);
+                if (chunk == null) {
+                    if (sparse.remove(id) != null) {
+                        size.decrement();
+                    }
+                    return;
+                }
+            } finally {
+                sparseLock.unlock();
+            }
+        }
+        if (chunk.getAndSet((int) (id & CHUNK_MASK), null) != null) {
+            size.decrement();
+        }
+    }
+
+    /**
+     * 청크 범위의 sparse 사용자가 PROMOTE_THRESHOLD명 이상이면 청크로 옮김 (sparseLock을 잡은 상태에서 호출)
+     * 청크를 먼저 등록한 뒤 sparse에서 지우므로, 읽기는 둘 중 한 곳에서 항상 찾을 수 있습니다.
+     */
+    private void promoteIfDense(long chunkKey) {
+        long base = chunkKey << CHUNK_BITS;
+        NavigableMap<Long, byte[]> range = sparse.subMap(base, true, base + CHUNK_MASK, true);
+        if (range.size() < PROMOTE_THRESHOLD) {
+            return;
+        }
+        AtomicReferenceArray<byte[]> chunk = new AtomicReferenceArray<>(CHUNK_SIZE);
+        range.forEach((id, record) -> chunk.set((int) (id & CHUNK_MASK), record));
+        chunks.put(chunkKey, chunk);
+        range.clear();
+    }
+
+    @Override
+    public int size() {
+        return (int) size.sum();
+    }
+
+    /**
+     * 만들어진 청크 수
+     */
+    int chunkCount() {
+        return chunks.size();
+    }
+
+    @Override
+    public Iterator<User> iterator(Long after) {
+        if (after != null && after == Long.MAX_VALUE) {
+            return Collections.emptyIterator();
+        }
+        long from = after == null ? Long.MIN_VALUE : after + 1;
+        Iterator<User> dense = new ChunkIterator(
+            chunks.tailMap(from >> CHUNK_BITS, true).entrySet().iterator(), from);
+        Iterator<User> sparseUsers = sparse.tailMap(from, true).entrySet().stream()
+            .map(entry -> decode(entry.getKey(), entry.getValue()))
+            .iterator();
+        return new MergingIterator(dense, sparseUsers);
+    }
+
+    static byte[] encode(User user) {
+        long version = user.getVersion() == null ? 0 : user.getVersion() + 1;
+        byte[] name = bytes(user.getName());
+        byte[] email = bytes(user.getEmail());
+        byte[] phone = bytes(user.getPhone());
+        byte[] record = new byte[varintLength(version)
+            + fieldLength(name) + fieldLength(email) + fieldLength(phone)];
+        int offset = writeVarint(record, 0, version);
+        offset = writeField(record, offset, name);
+        offset = writeField(record, offset, email);
+        writeField(record, offset, phone);
+        return record;
+    }
+
+    static User decode(long id, byte[] record) {
+        long version = 0;
+        int shift = 0;
+        int position = 0;
+        byte b;
+        do {
+            b = record[position++];
+            version |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+
+        String[] fields = new String[3];
+        for (int i = 0; i < fields.length; i++) {
+            int header = 0;
+            shift = 0;
+            do {
+                b = record[position++];
+                header |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            if (header > 0) {
+                fields[i] = new String(record, position, header - 1, UTF_8);
+                position += header - 1;
+            }
+        }
+        return new User(id, fields[0], fields[1], fields[2], version == 0 ? null : version - 1);
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(UTF_8);
+    }
+
+    private static int fieldLength(byte[] value) {
+        return value == null ? 1 : varintLength(value.length + 1) + value.length;
+    }
+
+    private static int varintLength(long value) {
+        int length = 1;
+        while ((value >>>= 7) != 0) {
+            length++;
+        }
+        return length;
+    }
+
+    private static int writeVarint(byte[] record, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            record[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        record[offset++] = (byte) value;
+        return offset;
+    }
+
+    private static int writeField(byte[] record, int offset, byte[] value) {
+        offset = writeVarint(record, offset, value == null ? 0 : value.length + 1);
+        if (value != null) {
+            System.arraycopy(value, 0, record, offset, value.length);
+            offset += value.length;
+        }
+        return offset;
+    }
+
+    /**
+     * 청크를 ID 순으로 훑으며 비어 있지 않은 슬롯만 돌려주는 Iterator
+     */
+    private static class ChunkIterator implements Iterator<User> {
+
+        private final Iterator<Map.Entry<Long, AtomicReferenceArray<byte[]>>> chunkIterator;
+        private final long from;
+        private AtomicReferenceArray<byte[]> chunk;
+        private long base;
+        private int index = CHUNK_SIZE;
+        private User next;
+
+        ChunkIterator(Iterator<Map.Entry<Long, AtomicReferenceArray<byte[]>>> chunkIterator, long from) {
+            this.chunkIterator = chunkIterator;
+            this.from = from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (index == CHUNK_SIZE) {
+                    if (!chunkIterator.hasNext()) {
+                        return false;
+                    }
+                    Map.Entry<Long, AtomicReferenceArray<byte[]>> entry = chunkIterator.next();
+                    chunk = entry.getValue();
+                    base = entry.getKey() << CHUNK_BITS;
+                    index = base < from ? (int) (from - base) : 0;
+                    continue;
+                }
+                byte[] record = chunk.get(index);
+                if (record != null) {
+                    next = decode(base + index, record);
+                }
+                index++;
+            }
+            return true;
+        }
+
+        @Override
+        public User next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            User user = next;
+            next = null;
+            return user;
+        }
+    }
+
+    /**
+     * 청크와 sparse 맵의 사용자를 ID 순으로 합치는 Iterator
+     * 청크로 옮기는 도중에는 같은 ID가 양쪽에 있을 수 있으므로 청크 쪽만 돌려줍니다.
+     */
+    private static class MergingIterator implements Iterator<User> {
+
+        private final Iterator<User> dense;
+        private final Iterator<User> sparse;
+        private User nextDense;
+        private User nextSparse;
+
+        MergingIterator(Iterator<User> dense, Iterator<User> sparse) {
+            this.dense = dense;
+            this.sparse = sparse;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextDense == null && dense.hasNext()) {
+                nextDense = dense.next();
+            }
+            if (nextSparse == null && sparse.hasNext()) {
+                nextSparse = sparse.next();
+            }
+            return nextDense != null || nextSparse != null;
+        }
+
+        @Override
+        public User next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            User user;
+            if (nextSparse == null || (nextDense != null && nextDense.getId() <= nextSparse.getId())) {
+                if (nextSparse != null && nextSparse.getId().equals(nextDense.getId())) {
+                    nextSparse = null;
+                }
+                user = nextDense;
+                nextDense = null;
+            } else {
+                user = nextSparse;
+                nextSparse = null;
+            }
+            return user;
+        }
+    }
+}
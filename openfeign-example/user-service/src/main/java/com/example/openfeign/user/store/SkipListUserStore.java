@@ -0,0 +1,47 @@
+package com.example.openfeign.user.store;
+
+import com.example.openfeign.common.User;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * ConcurrentSkipListMap에 User 객체를 그대로 담는 저장소
+ * 구현은 단순하지만 사용자마다 Long 키, 맵 노드, User와 문자열 객체가 따로 생겨 항목당 메모리 사용량이 큽니다.
+ * CompactUserStore와 비교하기 위한 기준 구현입니다 (user.store.type=skip-list).
+ */
+public class SkipListUserStore implements UserStore {
+
+    private final ConcurrentSkipListMap<Long, User> users = new ConcurrentSkipListMap<>();
+
+    @Override
+    public User get(long id) {
+        return users.get(id);
+    }
+
+    @Override
+    public void put(User user) {
+        users.put(Objects.requireNonNull(user.getId(), "id"), user);
+    }
+
+    @Override
+    public boolean replace(long id, User user) {
+        return users.replace(id, user) != null;
+    }
+
+    @Override
+    public void remove(long id) {
+        users.remove(id);
+    }
+
+    @Override
+    public int size() {
+        return users.size();
+    }
+
+    @Override
+    public Iterator<User> iterator(Long after) {
+        return (after == null ? users : users.tailMap(after, false)).values().iterator();
+    }
+}
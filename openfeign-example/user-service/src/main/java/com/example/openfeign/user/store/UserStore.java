@@ -0,0 +1,61 @@
+package com.example.openfeign.user.store;
+
+import com.example.openfeign.common.CursorPage;
+import com.example.openfeign.common.User;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 사용자 저장소
+ * 여러 요청 스레드에서 동시에 읽고 써도 안전해야 하며, 순회는 항상 ID 오름차순입니다.
+ */
+public interface UserStore extends Iterable<User> {
+
+    /**
+     * ID로 조회 (없으면 null)
+     */
+    User get(long id);
+
+    /**
+     * 저장 (같은 ID가 있으면 덮어씀)
+     */
+    void put(User user);
+
+    /**
+     * 이미 있는 사용자만 교체
+     *
+     * @return 교체했으면 true, 해당 ID가 없으면 false
+     */
+    boolean replace(long id, User user);
+
+    void remove(long id);
+
+    int size();
+
+    /**
+     * after보다 큰 ID부터 순회 (after가 null이면 처음부터)
+     * 순회 중 변경된 내용은 반영될 수도, 안 될 수도 있습니다 (ConcurrentModificationException은 발생하지 않음).
+     */
+    Iterator<User> iterator(Long after);
+
+    @Override
+    default Iterator<User> iterator() {
+        return iterator(null);
+    }
+
+    /**
+     * after 다음 ID부터 최대 limit개를 조회
+     * 뒤에 사용자가 더 남아 있을 때만 nextCursor를 채웁니다.
+     */
+    default CursorPage<User> page(Long after, int limit) {
+        Iterator<User> users = iterator(after);
+        List<User> items = new ArrayList<>(Math.min(limit, 256));
+        while (items.size() < limit && users.hasNext()) {
+            items.add(users.next());
+        }
+        Long nextCursor = users.hasNext() && !items.isEmpty() ? items.get(items.size() - 1).getId() : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+}
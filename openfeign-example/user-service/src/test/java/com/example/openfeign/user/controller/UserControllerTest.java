@@ -0,0 +1,43 @@
+package com.example.openfeign.user.controller;
+
+import com.example.openfeign.common.User;
+import com.example.openfeign.common.UserChangeTransport;
+import com.example.openfeign.user.change.UserChangeProperties;
+import com.example.openfeign.user.change.UserChangeService;
+import com.example.openfeign.user.store.CompactUserStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class UserControllerTest {
+
+    private final CompactUserStore store = new CompactUserStore();
+    private final UserController controller = new UserController(store,
+        new UserChangeService(store, new UserChangeProperties(),
+            new StaticListableBeanFactory().getBeanProvider(UserChangeTransport.class)),
+        new ObjectMapper());
+
+    @Test
+    void missingUserIsNotFound() {
+        ResponseStatusException get = catchThrowableOfType(() -> controller.getUserById(99L),
+            ResponseStatusException.class);
+        ResponseStatusException update = catchThrowableOfType(
+            () -> controller.updateUser(99L, new User(99L, "없음", null, null)), ResponseStatusException.class);
+
+        assertThat(get.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(update.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void userWithoutIdIsBadRequest() {
+        ResponseStatusException create = catchThrowableOfType(
+            () -> controller.createUser(new User(null, "이름없음", null, null)), ResponseStatusException.class);
+
+        assertThat(create.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
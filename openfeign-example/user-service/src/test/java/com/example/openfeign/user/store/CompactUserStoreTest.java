@@ -0,0 +1,76 @@
+package com.example.openfeign.user.store;
+
+import com.example.openfeign.common.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactUserStoreTest {
+
+    @Test
+    void sparseIdsDoNotAllocateChunks() {
+        CompactUserStore store = new CompactUserStore();
+        for (long id = 1; id <= 1000; id++) {
+            store.put(user(id * 1024));
+        }
+
+        assertThat(store.chunkCount()).isZero();
+        assertThat(store.size()).isEqualTo(1000);
+        assertThat(store.get(5 * 1024).getName()).isEqualTo("user" + 5 * 1024);
+        assertThat(store.get(5 * 1024 + 1)).isNull();
+
+        assertThat(store.replace(5 * 1024, new User(5L * 1024, "changed", null, null))).isTrue();
+        assertThat(store.get(5 * 1024).getName()).isEqualTo("changed");
+        assertThat(store.replace(5 * 1024 + 1, user(5 * 1024 + 1))).isFalse();
+        store.remove(5 * 1024);
+        assertThat(store.get(5 * 1024)).isNull();
+        assertThat(store.size()).isEqualTo(999);
+    }
+
+    @Test
+    void denseIdsMoveIntoChunk() {
+        CompactUserStore store = new CompactUserStore();
+        for (long id = 1; id <= CompactUserStore.PROMOTE_THRESHOLD * 2; id++) {
+            store.put(user(id));
+        }
+
+        assertThat(store.chunkCount()).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(CompactUserStore.PROMOTE_THRESHOLD * 2);
+        for (long id = 1; id <= CompactUserStore.PROMOTE_THRESHOLD * 2; id++) {
+            assertThat(store.get(id).getName()).isEqualTo("user" + id);
+        }
+    }
+
+    @Test
+    void iteratesChunksAndSparseIdsInOrder() {
+        CompactUserStore store = new CompactUserStore();
+        List<Long> ids = new ArrayList<>();
+        LongStream.rangeClosed(1, CompactUserStore.PROMOTE_THRESHOLD).forEach(ids::add);
+        ids.addAll(List.of(-5L, 2000L, 5000L, 1L << 40));
+        for (long id : ids) {
+            store.put(user(id));
+        }
+        ids.sort(null);
+
+        assertThat(ids(store.iterator(null))).isEqualTo(ids);
+        assertThat(ids(store.iterator(10L))).isEqualTo(ids.subList(ids.indexOf(11L), ids.size()));
+        assertThat(store.page(CompactUserStore.PROMOTE_THRESHOLD - 1L, 2).getItems())
+            .extracting(User::getId)
+            .containsExactly((long) CompactUserStore.PROMOTE_THRESHOLD, 2000L);
+    }
+
+    private static List<Long> ids(Iterator<User> users) {
+        List<Long> ids = new ArrayList<>();
+        users.forEachRemaining(user -> ids.add(user.getId()));
+        return ids;
+    }
+
+    private static User user(long id) {
+        return new User(id, "user" + id, "user" + id + "@example.com", null);
+    }
+}